@@ -3,6 +3,7 @@ package graphs;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
 
@@ -113,6 +114,274 @@ public class ArticulationPointsAndBridges {
         }
     }
 
+    /**
+     * Result of the iterative biconnectivity analysis, including the block-cut tree.
+     * <p>
+     * The block-cut tree has one node per vertex (0..V-1) and one node per biconnected
+     * component (V..V+numComponents-1), with an edge between a vertex and every component it
+     * belongs to. Removing x disconnects a from b exactly when x is an articulation point on
+     * the tree path between a and b. Paths are measured with LCA queries on an Euler tour of
+     * the tree, answered by a min segment tree over depths: O(V + E) preprocessing and
+     * O(log V) per query.
+     */
+    public static class BlockCutTree {
+        public final BitSet articulationPoints;
+        public final int[] bridges;         // ids of bridge edges
+        public final int[] edgeComponent;   // biconnected component of every edge (-1 for self-loops)
+        public final int numComponents;
+
+        private final int V;
+        private final int[] depth;          // depth of every tree node
+        private final int[] treeId;         // which tree of the forest a node belongs to
+        private final int[] first;          // first position of a node in the Euler tour
+        private final int[] euler;          // Euler tour of the forest
+        private final int[] seg;            // min segment tree over euler, storing tour positions
+        private final int tourLength;
+
+        BlockCutTree(int V, BitSet articulationPoints, int[] bridges, int[] edgeComponent,
+                     int numComponents, int[] edgeU, int[] edgeV) {
+            this.V = V;
+            this.articulationPoints = articulationPoints;
+            this.bridges = bridges;
+            this.edgeComponent = edgeComponent;
+            this.numComponents = numComponents;
+
+            int N = V + numComponents;
+
+            // Group the edges by component (counting sort) so each component's vertices are contiguous
+            int[] compStart = new int[numComponents + 1];
+            for (int c : edgeComponent) {
+                if (c != -1) compStart[c + 1]++;
+            }
+            for (int c = 0; c < numComponents; c++) compStart[c + 1] += compStart[c];
+            int[] byComp = new int[compStart[numComponents]];
+            int[] fill = Arrays.copyOf(compStart, numComponents);
+            for (int e = 0; e < edgeComponent.length; e++) {
+                if (edgeComponent[e] != -1) byComp[fill[edgeComponent[e]]++] = e;
+            }
+
+            // Tree edges (vertex, V + component), each vertex linked once per component
+            int[] lastSeen = new int[V];
+            Arrays.fill(lastSeen, -1);
+            int[] treeU = new int[2 * byComp.length];
+            int[] treeV = new int[2 * byComp.length];
+            int numTreeEdges = 0;
+            for (int c = 0; c < numComponents; c++) {
+                for (int i = compStart[c]; i < compStart[c + 1]; i++) {
+                    int e = byComp[i];
+                    for (int x : new int[]{edgeU[e], edgeV[e]}) {
+                        if (lastSeen[x] != c) {
+                            lastSeen[x] = c;
+                            treeU[numTreeEdges] = x;
+                            treeV[numTreeEdges++] = V + c;
+                        }
+                    }
+                }
+            }
+            int[][] adj = undirectedCSR(N, treeU, treeV, numTreeEdges);
+            int[] adjStart = adj[0], adjTo = adj[1];
+
+            // Iterative Euler tour of every tree
+            depth = new int[N];
+            treeId = new int[N];
+            first = new int[N];
+            euler = new int[Math.max(1, 2 * N - 1)];
+            Arrays.fill(treeId, -1);
+            int[] stack = new int[N];
+            int[] cursor = new int[N];
+            int len = 0;
+            for (int root = 0; root < N; root++) {
+                if (treeId[root] != -1) continue;
+                int top = 0;
+                stack[top++] = root;
+                treeId[root] = root;
+                cursor[root] = adjStart[root];
+                first[root] = len;
+                euler[len++] = root;
+                while (top > 0) {
+                    int u = stack[top - 1];
+                    if (cursor[u] < adjStart[u + 1]) {
+                        int v = adjTo[cursor[u]++];
+                        if (treeId[v] != -1) continue;
+                        treeId[v] = root;
+                        depth[v] = depth[u] + 1;
+                        cursor[v] = adjStart[v];
+                        first[v] = len;
+                        euler[len++] = v;
+                        stack[top++] = v;
+                    } else {
+                        top--;
+                        if (top > 0) euler[len++] = stack[top - 1];
+                    }
+                }
+            }
+            tourLength = len;
+
+            // Bottom-up segment tree: leaves at [len, 2 * len)
+            seg = new int[2 * Math.max(1, len)];
+            for (int i = 0; i < len; i++) seg[len + i] = i;
+            for (int i = len - 1; i >= 1; i--) seg[i] = shallower(seg[2 * i], seg[2 * i + 1]);
+        }
+
+        private int shallower(int i, int j) {
+            return depth[euler[i]] <= depth[euler[j]] ? i : j;
+        }
+
+        /**
+         * Lowest common ancestor of two nodes of the same tree.
+         */
+        private int lca(int a, int b) {
+            int l = Math.min(first[a], first[b]);
+            int r = Math.max(first[a], first[b]) + 1;
+            int best = l;
+            for (l += tourLength, r += tourLength; l < r; l >>= 1, r >>= 1) {
+                if ((l & 1) == 1) best = shallower(best, seg[l++]);
+                if ((r & 1) == 1) best = shallower(best, seg[--r]);
+            }
+            return euler[best];
+        }
+
+        private int distance(int a, int b) {
+            return depth[a] + depth[b] - 2 * depth[lca(a, b)];
+        }
+
+        public boolean isArticulationPoint(int x) {
+            return articulationPoints.get(x);
+        }
+
+        /**
+         * @return true if a and b are connected and every path between them passes through x
+         */
+        public boolean separates(int x, int a, int b) {
+            if (x == a || x == b || a == b || !articulationPoints.get(x)) return false;
+            if (treeId[a] != treeId[b] || treeId[a] != treeId[x]) return false;
+            return distance(a, x) + distance(x, b) == distance(a, b);
+        }
+    }
+
+    /**
+     * Iterative Tarjan biconnectivity on an edge list.
+     * <p>
+     * Same dfs_num / dfs_low rules as articulationPointAndBridge, but the recursion is replaced
+     * by an explicit call stack and an edge cursor per vertex, and edges are identified by their
+     * index so parallel edges are handled correctly. Tree and back edges are pushed on an edge
+     * stack; when a child v of u finishes with dfs_low[v] >= dfs_num[u], the edges down to (u, v)
+     * are popped as one biconnected component. Nothing is printed.
+     * <p>
+     * Time complexity: O(V + E) (plus O(V + E) to build the block-cut tree)
+     * Space complexity: O(V + E)
+     *
+     * @param V     number of vertices
+     * @param edgeU first endpoint of every undirected edge
+     * @param edgeV second endpoint of every undirected edge
+     * @return articulation points, bridges, biconnected components and the block-cut tree
+     */
+    public static BlockCutTree biconnected(int V, int[] edgeU, int[] edgeV) {
+        int M = edgeU.length;
+        int[][] adj = undirectedCSR(V, edgeU, edgeV, M);
+        int[] adjStart = adj[0], adjTo = adj[1], adjEdge = adj[2];
+
+        int[] dfsNum = new int[V];
+        int[] dfsLow = new int[V];
+        int[] parentEdge = new int[V];
+        int[] cursor = new int[V];
+        int[] callStack = new int[V];
+        int[] edgeStack = new int[M];
+        Arrays.fill(dfsNum, UNVISITED);
+
+        BitSet articulation = new BitSet(V);
+        int[] bridges = new int[M];
+        int numBridges = 0;
+        int[] edgeComponent = new int[M];
+        Arrays.fill(edgeComponent, -1);
+        int numComponents = 0;
+
+        int counter = 0;
+        int esp = 0;
+        for (int root = 0; root < V; root++) {
+            if (dfsNum[root] != UNVISITED) continue;
+
+            int csp = 0;
+            int children = 0;
+            dfsNum[root] = dfsLow[root] = counter++;
+            parentEdge[root] = -1;
+            cursor[root] = adjStart[root];
+            callStack[csp++] = root;
+
+            while (csp > 0) {
+                int u = callStack[csp - 1];
+
+                if (cursor[u] < adjStart[u + 1]) {
+                    int i = cursor[u]++;
+                    int v = adjTo[i];
+                    int e = adjEdge[i];
+                    if (e == parentEdge[u]) continue;          // don't go back over the same edge
+
+                    if (dfsNum[v] == UNVISITED) {              // Tree Edge
+                        if (u == root) children++;
+                        parentEdge[v] = e;
+                        dfsNum[v] = dfsLow[v] = counter++;
+                        cursor[v] = adjStart[v];
+                        edgeStack[esp++] = e;
+                        callStack[csp++] = v;
+                    } else if (dfsNum[v] < dfsNum[u]) {        // Back Edge to an ancestor
+                        dfsLow[u] = Math.min(dfsLow[u], dfsNum[v]);
+                        edgeStack[esp++] = e;
+                    }
+                    continue;
+                }
+
+                // u is finished: report to its parent
+                csp--;
+                if (csp == 0) continue;
+                int p = callStack[csp - 1];
+                dfsLow[p] = Math.min(dfsLow[p], dfsLow[u]);
+
+                if (dfsLow[u] >= dfsNum[p]) {
+                    if (p != root) articulation.set(p);
+                    int e;
+                    do {
+                        e = edgeStack[--esp];
+                        edgeComponent[e] = numComponents;
+                    } while (e != parentEdge[u]);
+                    numComponents++;
+                }
+                if (dfsLow[u] > dfsNum[p]) {
+                    bridges[numBridges++] = parentEdge[u];
+                }
+            }
+
+            // Root is an articulation point iff it has 2 or more DFS children
+            if (children > 1) articulation.set(root);
+        }
+
+        return new BlockCutTree(V, articulation, Arrays.copyOf(bridges, numBridges), edgeComponent,
+                numComponents, edgeU, edgeV);
+    }
+
+    /**
+     * Undirected CSR: {start, neighbour, edge id}. Each edge appears once in each endpoint's list.
+     */
+    private static int[][] undirectedCSR(int V, int[] edgeU, int[] edgeV, int M) {
+        int[] start = new int[V + 1];
+        for (int e = 0; e < M; e++) {
+            start[edgeU[e] + 1]++;
+            start[edgeV[e] + 1]++;
+        }
+        for (int i = 0; i < V; i++) start[i + 1] += start[i];
+        int[] to = new int[2 * M];
+        int[] id = new int[2 * M];
+        int[] fill = Arrays.copyOf(start, V);
+        for (int e = 0; e < M; e++) {
+            int u = edgeU[e], v = edgeV[e];
+            to[fill[u]] = v;
+            id[fill[u]++] = e;
+            to[fill[v]] = u;
+            id[fill[v]++] = e;
+        }
+        return new int[][]{start, to, id};
+    }
+
     /**
      * Example usage
      */
@@ -152,5 +421,19 @@ public class ArticulationPointsAndBridges {
 
         // Run Tarjan algorithm
         g.findArticulationPointsAndBridges();
+
+        // Iterative version on an edge list, plus block-cut tree queries
+        int[] edgeU = {1, 0, 2, 0, 3};
+        int[] edgeV = {0, 2, 1, 3, 4};
+        BlockCutTree bct = biconnected(5, edgeU, edgeV);
+
+        System.out.println("\nIterative:");
+        System.out.println(" Articulation points: " + bct.articulationPoints);   // {0, 3}
+        for (int e : bct.bridges) {
+            System.out.println(" Bridge (" + edgeU[e] + ", " + edgeV[e] + ")"); // (3, 4), (0, 3)
+        }
+        System.out.println(" Biconnected components: " + bct.numComponents);    // 3
+        System.out.println(" Removing 0 disconnects 1 and 4? " + bct.separates(0, 1, 4)); // true
+        System.out.println(" Removing 3 disconnects 1 and 2? " + bct.separates(3, 1, 2)); // false
     }
 }
\ No newline at end of file
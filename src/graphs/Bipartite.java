@@ -51,6 +51,47 @@ public class Bipartite {
         return isBipartite;
     }
 
+    /**
+     * 2-colors every connected component, not just the one containing a given source.
+     * Uses BFS with an int[] queue; every vertex is enqueued exactly once.
+     * <p>
+     * Time complexity: O(V + E)
+     * Space complexity: O(V)
+     *
+     * @param graph undirected adjacency list stored in a HashMap (nodes 0..V-1, V = graph.size())
+     * @return colors[v] in {0, 1} such that every edge joins different colors,
+     * or null if the graph is not bipartite
+     */
+    public int[] twoColor(HashMap<Integer, List<Integer>> graph) {
+        int V = graph.size();
+        int[] colors = new int[V];
+        Arrays.fill(colors, -1);
+        int[] queue = new int[V];
+
+        for (int src = 0; src < V; src++) {
+            if (colors[src] != -1) continue;
+
+            // New component: its first vertex goes on the left side
+            colors[src] = 0;
+            int head = 0, tail = 0;
+            queue[tail++] = src;
+
+            while (head < tail) {
+                int currVertex = queue[head++];
+                for (int neighbor : graph.getOrDefault(currVertex, List.of())) {
+                    if (colors[neighbor] == -1) {
+                        colors[neighbor] = 1 - colors[currVertex];
+                        queue[tail++] = neighbor;
+                    } else if (colors[neighbor] == colors[currVertex]) {
+                        return null; // odd cycle
+                    }
+                }
+            }
+        }
+
+        return colors;
+    }
+
     public static void main(String[] args) {
         Bipartite bipartite = new Bipartite();
 
@@ -89,5 +130,9 @@ public class Bipartite {
 
         boolean result2 = bipartite.isGraphBipartite(0, graph2);
         System.out.println("Graph 2 bipartite? " + result2); // false
+
+        // Partition of every component: {0, 2} vs {1, 3}
+        System.out.println("Graph 1 colors: " + Arrays.toString(bipartite.twoColor(graph1))); // [0, 1, 0, 1]
+        System.out.println("Graph 2 colors: " + Arrays.toString(bipartite.twoColor(graph2))); // null
     }
 }
\ No newline at end of file
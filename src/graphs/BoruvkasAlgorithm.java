@@ -0,0 +1,207 @@
+package graphs;
+
+import unionfind.ConcurrentUnionFind;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Multicore minimum spanning forest with Borůvka's algorithm.
+ * <p>
+ * Every round does the following, with all loops split over the pool:
+ * 1. Lightest edge: for every edge whose endpoints are in different components, both
+ *    components offer it as their candidate. A CAS loop on best[component] keeps the
+ *    lightest. Ties are broken by edge id, so all edges are strictly ordered and the chosen
+ *    edges cannot close a cycle.
+ * 2. Contraction: each chosen edge unites its two components in a ConcurrentUnionFind.
+ *    Two components that chose the same edge unite only once; the successful union puts the
+ *    edge in the forest.
+ * 3. Edges inside one component are dropped (compacted away with a prefix sum), and so are
+ *    components that are no longer roots.
+ * The rounds stop at a fixpoint, when no edge joins two components. The number of components
+ * at least halves every round, so there are at most log V rounds.
+ * <p>
+ * The forest has the same total weight as Kruskal's (the edges themselves can differ only
+ * between equal weights).
+ * <p>
+ * Work: O(E * log V), span O(log V) rounds of parallel loops
+ * Space complexity: O(V + E)
+ */
+public class BoruvkasAlgorithm {
+
+    private static final int SEQ_THRESHOLD = 2048; // below this a loop runs on the calling thread
+    private static final int NONE = -1;
+
+    private final int V;
+    private final int[] edgeU, edgeV;
+    private final long[] weight;
+    private final ForkJoinPool pool;
+
+    /**
+     * @param V      number of vertices
+     * @param edgeU  first endpoint of every undirected edge
+     * @param edgeV  second endpoint of every undirected edge
+     * @param weight weight of every edge
+     * @param pool   pool running the parallel loops
+     */
+    public BoruvkasAlgorithm(int V, int[] edgeU, int[] edgeV, long[] weight, ForkJoinPool pool) {
+        this.V = V;
+        this.edgeU = edgeU;
+        this.edgeV = edgeV;
+        this.weight = weight;
+        this.pool = pool;
+    }
+
+    /**
+     * Strict order of edges: by weight, then by id.
+     */
+    private boolean lighter(int a, int b) {
+        return weight[a] < weight[b] || (weight[a] == weight[b] && a < b);
+    }
+
+    /**
+     * Makes e the candidate of component c if it is lighter than the current one.
+     */
+    private void offer(AtomicIntegerArray best, int c, int e) {
+        while (true) {
+            int current = best.get(c);
+            if (current != NONE && !lighter(e, current)) return;
+            if (best.compareAndSet(c, current, e)) return;
+        }
+    }
+
+    /**
+     * Computes a minimum spanning forest.
+     *
+     * @return ids (indices into edgeU / edgeV / weight) of the forest edges
+     */
+    public int[] minimumSpanningForest() {
+        final ConcurrentUnionFind uf = new ConcurrentUnionFind(V);
+        final AtomicIntegerArray best = new AtomicIntegerArray(V);
+        final int[] forest = new int[Math.max(0, V - 1)];
+        final AtomicInteger forestSize = new AtomicInteger();
+
+        int[] edges = new int[edgeU.length];        // edges that may still join two components
+        for (int i = 0; i < edges.length; i++) edges[i] = i;
+        int[] roots = new int[V];                   // components of the current round
+        for (int v = 0; v < V; v++) roots[v] = v;
+
+        while (edges.length > 0) {
+            final int[] edgeList = edges;
+            final int[] rootList = roots;
+            parallelFor(rootList.length, SEQ_THRESHOLD, (lo, hi) -> {
+                for (int i = lo; i < hi; i++) best.set(rootList[i], NONE);
+            });
+
+            // 1. Lightest edge out of every component; internal edges are marked dead
+            final boolean[] alive = new boolean[edgeList.length];
+            parallelFor(edgeList.length, SEQ_THRESHOLD, (lo, hi) -> {
+                for (int i = lo; i < hi; i++) {
+                    int e = edgeList[i];
+                    int cu = uf.findSet(edgeU[e]);
+                    int cv = uf.findSet(edgeV[e]);
+                    if (cu == cv) continue;
+                    alive[i] = true;
+                    offer(best, cu, e);
+                    offer(best, cv, e);
+                }
+            });
+
+            // 2. Contract along the chosen edges
+            parallelFor(rootList.length, SEQ_THRESHOLD, (lo, hi) -> {
+                for (int i = lo; i < hi; i++) {
+                    int e = best.get(rootList[i]);
+                    if (e != NONE && uf.union(edgeU[e], edgeV[e])) {
+                        forest[forestSize.getAndIncrement()] = e;
+                    }
+                }
+            });
+
+            // 3. Keep the edges that were not internal and the components that are still roots.
+            //    Edges that became internal in step 2 are dropped in the next round.
+            edges = compact(edgeList, i -> alive[i]);
+            roots = compact(rootList, i -> uf.findSet(rootList[i]) == rootList[i]);
+        }
+
+        int[] result = Arrays.copyOf(forest, forestSize.get());
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * Index filter for compact.
+     */
+    interface Keep {
+        boolean test(int i);
+    }
+
+    /**
+     * Returns the items src[i] with keep.test(i), in order, in parallel chunks with a prefix sum.
+     */
+    private int[] compact(final int[] src, final Keep keep) {
+        final int n = src.length;
+        final int chunks = (n + SEQ_THRESHOLD - 1) / SEQ_THRESHOLD;
+        final int[] counts = new int[chunks + 1];
+
+        parallelFor(chunks, 1, (lo, hi) -> {
+            for (int c = lo; c < hi; c++) {
+                int cnt = 0;
+                for (int i = c * SEQ_THRESHOLD; i < Math.min(n, (c + 1) * SEQ_THRESHOLD); i++) {
+                    if (keep.test(i)) cnt++;
+                }
+                counts[c + 1] = cnt;
+            }
+        });
+        for (int c = 0; c < chunks; c++) counts[c + 1] += counts[c];
+
+        final int[] compacted = new int[counts[chunks]];
+        parallelFor(chunks, 1, (lo, hi) -> {
+            for (int c = lo; c < hi; c++) {
+                int pos = counts[c];
+                for (int i = c * SEQ_THRESHOLD; i < Math.min(n, (c + 1) * SEQ_THRESHOLD); i++) {
+                    if (keep.test(i)) compacted[pos++] = src[i];
+                }
+            }
+        });
+        return compacted;
+    }
+
+    private void parallelFor(int n, int grain, ParallelFor.RangeBody body) {
+        ParallelFor.run(pool, 0, n, grain, body);
+    }
+
+    public static void main(String[] args) {
+        // Same graph as KruskalsAlgorithm and PrimsAlgorithm
+        int[] edgeU = {0, 0, 0, 1, 2};
+        int[] edgeV = {1, 2, 3, 3, 3};
+        long[] weight = {10, 6, 5, 15, 4};
+
+        /*
+            Round 1: 0 -> 0-3 (5), 1 -> 0-1 (10), 2 -> 2-3 (4), 3 -> 2-3 (4)
+                     one component is left, so round 2 finds no edge and stops
+
+            MST edges: 0-1 (10), 0-3 (5), 2-3 (4), cost = 19
+         */
+        int[] forest = new BoruvkasAlgorithm(4, edgeU, edgeV, weight, ForkJoinPool.commonPool())
+                .minimumSpanningForest();
+        long cost = 0;
+        for (int e : forest) {
+            System.out.println("MST edge " + edgeU[e] + " - " + edgeV[e] + " (" + weight[e] + ")");
+            cost += weight[e];
+        }
+        System.out.println("Boruvka MST cost = " + cost); // Expected output: 19
+
+        // Compare with Kruskal on the same edges
+        HashMap<Integer, List<KruskalsAlgorithm.Edge>> graph = new HashMap<>();
+        for (int i = 0; i < 4; i++) graph.put(i, new ArrayList<>());
+        for (int e = 0; e < edgeU.length; e++) {
+            KruskalsAlgorithm.addEdge(graph, edgeU[e], edgeV[e], (int) weight[e]);
+        }
+        System.out.println("Kruskal MST cost = " + KruskalsAlgorithm.kruskal(4, graph)); // Expected output: 19
+    }
+}
@@ -0,0 +1,175 @@
+package graphs;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs one task per node of a DAG on a ForkJoinPool, starting each task as soon as all of
+ * its predecessors have finished (dataflow version of Kahn's algorithm).
+ * <p>
+ * Every node has an atomic counter of unfinished predecessors. When a task completes it
+ * decrements the counters of its successors; the ones that reach 0 are forked, except the
+ * last, which the same worker runs next to avoid a round trip through the pool. There are no
+ * level barriers, so a long chain never holds back independent work.
+ * <p>
+ * If a task throws, its successors are skipped (but still released so execute() returns) and
+ * the first exception is rethrown from execute().
+ * <p>
+ * execute() may be called from a task running on the same pool (e.g. a scheduler that runs
+ * sub-builds): it waits through ForkJoinPool.managedBlock, so the pool adds a spare worker
+ * instead of losing the blocked one, and even a pool of parallelism 1 makes progress.
+ */
+public class DagTaskExecutor {
+
+    private final int V;
+    private final int[] offsets, targets;   // CSR: u -> targets[offsets[u] .. offsets[u + 1] - 1]
+    private final int[] indegree;
+    private final ForkJoinPool pool;
+
+    /**
+     * @param offsets CSR offsets (length V + 1)
+     * @param targets CSR targets
+     * @param pool    pool to run the tasks on
+     * @throws IllegalArgumentException if the graph contains a cycle
+     */
+    public DagTaskExecutor(int[] offsets, int[] targets, ForkJoinPool pool) {
+        this.V = offsets.length - 1;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.pool = pool;
+
+        indegree = new int[V];
+        for (int v : targets) indegree[v]++;
+
+        // Sequential Kahn pass so a cycle fails fast instead of hanging execute()
+        int[] remaining = indegree.clone();
+        int[] queue = new int[V];
+        int head = 0, tail = 0;
+        for (int v = 0; v < V; v++) {
+            if (remaining[v] == 0) queue[tail++] = v;
+        }
+        while (head < tail) {
+            int u = queue[head++];
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                if (--remaining[targets[e]] == 0) queue[tail++] = targets[e];
+            }
+        }
+        if (tail != V) {
+            throw new IllegalArgumentException("Graph contains a cycle");
+        }
+    }
+
+    /**
+     * Runs tasks[v] for every node v, respecting the edges, and waits for all of them.
+     *
+     * @param tasks one task per node
+     * @throws IllegalArgumentException if tasks.length is not the number of nodes
+     * @throws ExecutionException       if a task threw (wraps the first exception)
+     * @throws InterruptedException     if interrupted while waiting
+     */
+    public void execute(Runnable[] tasks) throws ExecutionException, InterruptedException {
+        if (tasks.length != V) {
+            throw new IllegalArgumentException("Expected " + V + " tasks, got " + tasks.length);
+        }
+        AtomicIntegerArray pending = new AtomicIntegerArray(indegree);
+        boolean[] skip = new boolean[V];     // written before the node is released, see NodeTask
+        CountDownLatch done = new CountDownLatch(V);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        for (int v = 0; v < V; v++) {
+            if (indegree[v] == 0) {
+                pool.execute(new NodeTask(v, tasks, pending, skip, done, failure));
+            }
+        }
+        ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+            public boolean block() throws InterruptedException {
+                done.await();
+                return true;
+            }
+
+            public boolean isReleasable() {
+                return done.getCount() == 0;
+            }
+        });
+
+        if (failure.get() != null) {
+            throw new ExecutionException(failure.get());
+        }
+    }
+
+    /**
+     * Runs one node, then releases its successors.
+     */
+    class NodeTask extends RecursiveAction {
+        int node;
+        final Runnable[] tasks;
+        final AtomicIntegerArray pending;
+        final boolean[] skip;
+        final CountDownLatch done;
+        final AtomicReference<Throwable> failure;
+
+        NodeTask(int node, Runnable[] tasks, AtomicIntegerArray pending, boolean[] skip,
+                 CountDownLatch done, AtomicReference<Throwable> failure) {
+            this.node = node;
+            this.tasks = tasks;
+            this.pending = pending;
+            this.skip = skip;
+            this.done = done;
+            this.failure = failure;
+        }
+
+        protected void compute() {
+            while (node != -1) {
+                int u = node;
+                boolean failed = skip[u];
+                if (!failed) {
+                    try {
+                        tasks[u].run();
+                    } catch (Throwable t) {
+                        failure.compareAndSet(null, t);
+                        failed = true;
+                    }
+                }
+
+                // Release successors; keep the last ready one for this worker
+                int nextNode = -1;
+                for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    int v = targets[e];
+                    if (failed) skip[v] = true;  // published by the decrement below
+                    if (pending.decrementAndGet(v) == 0) {
+                        if (nextNode != -1) {
+                            new NodeTask(nextNode, tasks, pending, skip, done, failure).fork();
+                        }
+                        nextNode = v;
+                    }
+                }
+                done.countDown();
+                node = nextNode;
+            }
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        /*
+            Build graph (same DAG as KahnsAlg):
+                5 -> 2, 5 -> 0, 4 -> 0, 4 -> 1, 2 -> 3, 3 -> 1
+         */
+        int[] offsets = {0, 0, 0, 1, 2, 4, 6};
+        int[] targets = {3, 1, 0, 1, 2, 0};
+
+        Runnable[] tasks = new Runnable[6];
+        for (int v = 0; v < 6; v++) {
+            final int node = v;
+            tasks[v] = () -> System.out.println("Building target " + node + " on "
+                    + Thread.currentThread().getName());
+        }
+
+        DagTaskExecutor executor = new DagTaskExecutor(offsets, targets, ForkJoinPool.commonPool());
+        executor.execute(tasks);
+        System.out.println("All targets built.");
+    }
+}
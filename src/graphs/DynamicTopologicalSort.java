@@ -0,0 +1,175 @@
+package graphs;
+
+import java.util.Arrays;
+
+/**
+ * Maintains a topological order of a DAG under edge insertions (Pearce-Kelly algorithm).
+ * <p>
+ * ord[v] is the position of v in the current order. Inserting u -> v with ord[u] < ord[v]
+ * needs no work. Otherwise only the affected region [ord[v], ord[u]] is touched:
+ * - F = nodes reachable from v with ord <= ord[u] (if u is among them, the edge closes a cycle
+ *   and is rejected),
+ * - B = nodes reaching u with ord >= ord[v],
+ * and the positions held by B and F are reassigned so that all of B comes before all of F,
+ * each group keeping its relative order.
+ * <p>
+ * The cost of an insertion is proportional to the edges around F and B, not to the whole graph,
+ * compared with rerunning KahnsAlg or TopologicalSort after every insertion.
+ * <p>
+ * Node IDs are assumed to be in the range 0..V-1.
+ */
+public class DynamicTopologicalSort {
+
+    private final int V;
+    private final int[][] out, in;        // growable adjacency lists
+    private final int[] outSize, inSize;
+    private final int[] ord;              // ord[v] = position of v
+    private final int[] node;             // node[i] = vertex at position i
+
+    // Search state
+    private final int[] mark;
+    private int stamp;
+    private final int[] stack;
+    private final int[] region;
+
+    /**
+     * Creates V nodes with no edges, initially ordered 0, 1, ..., V-1.
+     */
+    public DynamicTopologicalSort(int V) {
+        this.V = V;
+        out = new int[V][];
+        in = new int[V][];
+        outSize = new int[V];
+        inSize = new int[V];
+        ord = new int[V];
+        node = new int[V];
+        for (int i = 0; i < V; i++) {
+            out[i] = new int[2];
+            in[i] = new int[2];
+            ord[i] = i;
+            node[i] = i;
+        }
+        mark = new int[V];
+        stack = new int[V];
+        region = new int[V];
+    }
+
+    /**
+     * Inserts u -> v if it keeps the graph acyclic.
+     *
+     * @return false (and leaves the graph unchanged) if the edge would create a cycle
+     */
+    public boolean addEdge(int u, int v) {
+        if (u == v) return false;
+
+        if (ord[u] > ord[v]) {
+            int lowerBound = ord[v];
+            int upperBound = ord[u];
+            stamp++;
+
+            int fSize = search(v, out, outSize, upperBound, true, 0);
+            for (int i = 0; i < fSize; i++) {
+                if (region[i] == u) return false; // u reachable from v -> cycle
+            }
+            int bSize = search(u, in, inSize, lowerBound, false, fSize);
+            reorder(fSize, bSize);
+        }
+
+        append(out, outSize, u, v);
+        append(in, inSize, v, u);
+        return true;
+    }
+
+    /**
+     * @return position of v in the current topological order
+     */
+    public int position(int v) {
+        return ord[v];
+    }
+
+    /**
+     * @return the nodes in the current topological order
+     */
+    public int[] topologicalOrder() {
+        return node.clone();
+    }
+
+    /**
+     * Iterative DFS bounded by ord (<= bound forward, >= bound backward).
+     * Visited nodes are written to region[offset, offset + size).
+     *
+     * @return number of visited nodes
+     */
+    private int search(int start, int[][] adj, int[] adjSize, int bound, boolean forward, int offset) {
+        int size = 0, top = 0;
+        mark[start] = stamp;
+        stack[top++] = start;
+        while (top > 0) {
+            int x = stack[--top];
+            region[offset + size++] = x;
+            for (int i = 0; i < adjSize[x]; i++) {
+                int y = adj[x][i];
+                if (mark[y] == stamp) continue;
+                if (forward ? ord[y] > bound : ord[y] < bound) continue;
+                mark[y] = stamp;
+                stack[top++] = y;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * region[0, fSize) holds F and region[fSize, fSize + bSize) holds B.
+     * B takes the smallest of their combined positions, F the rest.
+     */
+    private void reorder(int fSize, int bSize) {
+        int n = fSize + bSize;
+        int[] slots = new int[n];
+        for (int i = 0; i < n; i++) slots[i] = ord[region[i]];
+        Arrays.sort(slots);
+
+        sortByOrd(region, 0, fSize);
+        sortByOrd(region, fSize, n);
+
+        int k = 0;
+        for (int i = fSize; i < n; i++) place(region[i], slots[k++]);
+        for (int i = 0; i < fSize; i++) place(region[i], slots[k++]);
+    }
+
+    private void place(int v, int position) {
+        ord[v] = position;
+        node[position] = v;
+    }
+
+    /**
+     * Sorts a[from, to) by current position (counting on positions being distinct).
+     */
+    private void sortByOrd(int[] a, int from, int to) {
+        long[] keyed = new long[to - from];
+        for (int i = from; i < to; i++) keyed[i - from] = ((long) ord[a[i]] << 32) | a[i];
+        Arrays.sort(keyed);
+        for (int i = from; i < to; i++) a[i] = (int) keyed[i - from];
+    }
+
+    private static void append(int[][] adj, int[] size, int x, int y) {
+        if (size[x] == adj[x].length) adj[x] = Arrays.copyOf(adj[x], size[x] * 2);
+        adj[x][size[x]++] = y;
+    }
+
+    public static void main(String[] args) {
+        /*
+            Insert the TopologicalSort example DAG one edge at a time:
+                5 -> 2, 5 -> 0, 4 -> 1, 2 -> 3, 3 -> 1
+            then try 1 -> 5, which would close the cycle 5 -> 2 -> 3 -> 1 -> 5.
+         */
+        DynamicTopologicalSort dts = new DynamicTopologicalSort(6);
+        int[][] edges = {{5, 2}, {5, 0}, {4, 1}, {2, 3}, {3, 1}};
+
+        for (int[] e : edges) {
+            dts.addEdge(e[0], e[1]);
+            System.out.println("Added " + e[0] + " -> " + e[1] + ": " + Arrays.toString(dts.topologicalOrder()));
+        }
+
+        System.out.println("Add 1 -> 5 accepted? " + dts.addEdge(1, 5)); // false
+    }
+}
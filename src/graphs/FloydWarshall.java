@@ -118,6 +118,9 @@ public class FloydWarshall {
      * <p>
      * Time complexity: O(V^3) for Floyd-Warshall + O(V) for cycle detection = O(V^3)
      * Space complexity: O(V^2)
+     * <p>
+     * For sparse graphs use MinimumCycles, which works on adjacency lists in O(V + E) memory
+     * and also returns the cycle's vertices.
      *
      * @param graph adjacency matrix of the graph
      * @return the weight of the cheapest negative cycle, or Long.MAX_VALUE if no negative cycle exists
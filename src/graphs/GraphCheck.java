@@ -30,6 +30,7 @@ public class GraphCheck {
 
     /**
      * DFS to classify edges: tree, back, forward/cross, two-way
+     * (recursive and printing; see IterativeDFS for large graphs)
      */
     public void graphCheck(int u) {
         dfsNum.put(u, EXPLORED); // mark as EXPLORED
@@ -0,0 +1,207 @@
+package graphs;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Hopcroft-Karp maximum bipartite matching.
+ * <p>
+ * Vertices with colors[v] == 0 form the left side L, the others the right side R
+ * (see Bipartite.twoColor). Every phase:
+ * 1. BFS from all free left vertices over alternating paths (any edge L -> R, matched edge R -> L)
+ *    labels left vertices with their layer, stopping at the first layer that reaches a free
+ *    right vertex.
+ * 2. DFS along the layers finds a maximal set of vertex-disjoint shortest augmenting paths and
+ *    flips them. A current-arc pointer per vertex means every edge is scanned once per phase.
+ * <p>
+ * There are O(sqrt(V)) phases, compared with one augmenting path per BFS when the matching is
+ * solved as a flow problem with EdmondsKarp and a super source/sink.
+ * <p>
+ * Time complexity: O(E * sqrt(V))
+ * Space complexity: O(V)
+ */
+public class HopcroftKarp {
+
+    private static final int INF = Integer.MAX_VALUE;
+
+    /**
+     * Maximum matching on a CSR graph. Only the edges leaving left vertices are used, so an
+     * undirected graph (both directions stored) and a left -> right graph both work.
+     *
+     * @param offsets CSR offsets (length V + 1)
+     * @param targets CSR targets
+     * @param colors  side of every vertex, 0 = left, 1 = right
+     * @return mate[v] = vertex matched with v, or -1 if v is free
+     */
+    public static int[] maxMatching(int[] offsets, int[] targets, int[] colors) {
+        int V = offsets.length - 1;
+        int[] mate = new int[V];
+        Arrays.fill(mate, -1);
+
+        int[] left = new int[V];
+        int numLeft = 0;
+        for (int v = 0; v < V; v++) {
+            if (colors[v] == 0) left[numLeft++] = v;
+        }
+
+        // Greedy initial matching, usually most of the final one
+        for (int i = 0; i < numLeft; i++) {
+            int u = left[i];
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int v = targets[e];
+                if (mate[v] == -1) {
+                    mate[u] = v;
+                    mate[v] = u;
+                    break;
+                }
+            }
+        }
+
+        int[] dist = new int[V];
+        int[] queue = new int[V];
+        int[] arc = new int[V];   // current-arc pointer of every left vertex
+        int[] stack = new int[V];
+
+        int limit;
+        while ((limit = bfs(offsets, targets, left, numLeft, mate, dist, queue)) != INF) {
+            for (int i = 0; i < numLeft; i++) arc[left[i]] = offsets[left[i]];
+            for (int i = 0; i < numLeft; i++) {
+                int u = left[i];
+                if (mate[u] == -1) augment(offsets, targets, u, limit, mate, dist, arc, stack);
+            }
+        }
+
+        return mate;
+    }
+
+    /**
+     * Convenience overload for the HashMap adjacency lists used by Bipartite.
+     *
+     * @return mate[v] as above, or null if the graph is not bipartite
+     */
+    public static int[] maxMatching(HashMap<Integer, List<Integer>> graph) {
+        int[] colors = new Bipartite().twoColor(graph);
+        if (colors == null) {
+            return null;
+        }
+        int[][] csr = TarjanSCC.toCSR(graph.size(), graph);
+        return maxMatching(csr[0], csr[1], colors);
+    }
+
+    /**
+     * @return number of matched pairs in mate
+     */
+    public static int matchingSize(int[] mate) {
+        int matched = 0;
+        for (int v : mate) {
+            if (v != -1) matched++;
+        }
+        return matched / 2;
+    }
+
+    /**
+     * Layers the left vertices by alternating-path distance from the free ones.
+     *
+     * @return layer limit: a free right vertex is reached from a left vertex u with
+     *         dist[u] + 1 == limit; INF if there is no augmenting path
+     */
+    private static int bfs(int[] offsets, int[] targets, int[] left, int numLeft,
+                           int[] mate, int[] dist, int[] queue) {
+        int head = 0, tail = 0;
+        for (int i = 0; i < numLeft; i++) {
+            int u = left[i];
+            if (mate[u] == -1) {
+                dist[u] = 0;
+                queue[tail++] = u;
+            } else {
+                dist[u] = INF;
+            }
+        }
+
+        int limit = INF; // layer of the shortest augmenting paths
+        while (head < tail) {
+            int u = queue[head++];
+            if (dist[u] >= limit) break;
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int w = mate[targets[e]];
+                if (w == -1) {
+                    limit = dist[u] + 1;
+                } else if (dist[w] == INF && dist[u] + 1 < limit) {
+                    dist[w] = dist[u] + 1;
+                    queue[tail++] = w;
+                }
+            }
+        }
+        return limit;
+    }
+
+    /**
+     * Iterative DFS for one shortest augmenting path from the free left vertex root along the
+     * BFS layers: a free right vertex only ends the path from the last layer (dist + 1 == limit),
+     * so every path of the phase has the same length, which the O(sqrt(V)) phase bound needs.
+     * stack holds the left vertices of the path; the edge used by stack[i] is targets[arc[stack[i]]].
+     */
+    private static void augment(int[] offsets, int[] targets, int root, int limit, int[] mate,
+                                int[] dist, int[] arc, int[] stack) {
+        int top = 0;
+        stack[top++] = root;
+
+        while (top > 0) {
+            int u = stack[top - 1];
+            if (arc[u] == offsets[u + 1]) {
+                dist[u] = INF; // dead end for the rest of the phase
+                top--;
+                continue;
+            }
+
+            int v = targets[arc[u]];
+            int w = mate[v];
+            if (w == -1 && dist[u] + 1 == limit) {
+                // Free right vertex at the end of a shortest path: flip every edge on the path
+                for (int i = top - 1; i >= 0; i--) {
+                    int x = stack[i];
+                    int y = targets[arc[x]];
+                    mate[x] = y;
+                    mate[y] = x;
+                }
+                return;
+            }
+            if (w != -1 && dist[w] == dist[u] + 1) {
+                stack[top++] = w; // arc[u] stays on v until w fails
+            } else {
+                arc[u]++;
+            }
+        }
+    }
+
+    public static void main(String[] args) {
+        /*
+            Workers 0..2 (left), jobs 3..6 (right):
+
+                0 --- 3
+                  \
+                1 --- 4
+                  \
+                2 --- 5
+                  \
+                    - 6
+
+            0 can do 3 or 4, 1 can do 4 or 5, 2 can do 5 or 6
+         */
+        HashMap<Integer, List<Integer>> graph = new HashMap<>();
+        graph.put(0, List.of(3, 4));
+        graph.put(1, List.of(4, 5));
+        graph.put(2, List.of(5, 6));
+        graph.put(3, List.of(0));
+        graph.put(4, List.of(0, 1));
+        graph.put(5, List.of(1, 2));
+        graph.put(6, List.of(2));
+
+        int[] mate = maxMatching(graph);
+        System.out.println("Matching size: " + matchingSize(mate)); // 3
+        for (int u = 0; u < 3; u++) {
+            System.out.println("Worker " + u + " -> job " + mate[u]);
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package graphs;
+
+import java.util.Arrays;
+
+import unionfind.UnionFind;
+
+/**
+ * Online bridge finding: maintains the bridges and 2-edge-connected components of an
+ * undirected graph while edges are added one by one.
+ * <p>
+ * Two UnionFinds are kept: one for 2-edge-connected components and one for connected
+ * components. The 2-edge-connected components of every connected component form a tree
+ * (the bridge tree), stored as parent pointers par[] between component representatives;
+ * every tree edge is a bridge. When edge (a, b) is added:
+ * - a and b in the same 2-edge-connected component: nothing changes;
+ * - a and b in different connected components: the smaller tree is re-rooted at a's component
+ *   and hung below b's component. The new edge is a bridge;
+ * - otherwise the edge closes a cycle in the bridge tree: the path a ... lca ... b is found by
+ *   walking up from both sides alternately, and every component on it is merged into one.
+ *   Every tree edge on the path stops being a bridge.
+ * <p>
+ * Re-rooting the smaller tree gives O(log V) amortized pointer updates per edge, and the
+ * remaining work is near-constant UnionFind operations.
+ * <p>
+ * Node IDs are assumed to be in the range 0..V-1.
+ */
+public class IncrementalBridges {
+
+    private final UnionFind twoEdgeCC;   // 2-edge-connected components
+    private final UnionFind cc;          // connected components
+    private final int[] ccSize;          // size of a connected component, valid at its UnionFind root
+
+    // Bridge tree, valid at 2-edge-connected representatives
+    private final int[] par;             // some vertex of the parent component, -1 for a root
+    private final int[] bridgeU, bridgeV; // endpoints of the bridge to the parent component
+
+    private final int[] lastVisit;       // for the LCA walk
+    private int visitStamp;
+    private final int[] pathA, pathB;
+
+    private int numBridges;
+
+    public IncrementalBridges(int V) {
+        twoEdgeCC = new UnionFind(V);
+        cc = new UnionFind(V);
+        ccSize = new int[V];
+        Arrays.fill(ccSize, 1);
+        par = new int[V];
+        Arrays.fill(par, -1);
+        bridgeU = new int[V];
+        bridgeV = new int[V];
+        lastVisit = new int[V];
+        pathA = new int[V];
+        pathB = new int[V];
+    }
+
+    /**
+     * Adds the undirected edge (a, b) and updates the bridges.
+     */
+    public void addEdge(int a, int b) {
+        int ra = twoEdgeCC.findSet(a);
+        int rb = twoEdgeCC.findSet(b);
+        if (ra == rb) return;
+
+        int ca = cc.findSet(ra);
+        int cb = cc.findSet(rb);
+        if (ca != cb) {
+            numBridges++;
+            if (ccSize[ca] > ccSize[cb]) {   // always re-root the smaller tree
+                int t = a; a = b; b = t;
+                t = ra; ra = rb; rb = t;
+                t = ca; ca = cb; cb = t;
+            }
+            makeRoot(ra);
+            par[ra] = rb;
+            bridgeU[ra] = a;
+            bridgeV[ra] = b;
+
+            int size = ccSize[ca] + ccSize[cb];
+            cc.union(ca, cb);
+            ccSize[cc.findSet(ca)] = size;
+        } else {
+            mergePath(ra, rb);
+        }
+    }
+
+    /**
+     * @return current number of bridges
+     */
+    public int numBridges() {
+        return numBridges;
+    }
+
+    /**
+     * @return true if (u, v) is an edge of the graph and a bridge
+     */
+    public boolean isBridge(int u, int v) {
+        int ru = twoEdgeCC.findSet(u);
+        int rv = twoEdgeCC.findSet(v);
+        if (ru == rv) return false;
+        return isTreeEdge(ru, u, v) || isTreeEdge(rv, u, v);
+    }
+
+    /**
+     * @return all bridges as {u, v} pairs (O(V))
+     */
+    public int[][] bridges() {
+        int[][] result = new int[numBridges][];
+        int k = 0;
+        for (int v = 0; v < par.length; v++) {
+            if (par[v] != -1 && twoEdgeCC.findSet(v) == v) {
+                result[k++] = new int[]{bridgeU[v], bridgeV[v]};
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return true if u and v are connected by two edge-disjoint paths
+     */
+    public boolean isTwoEdgeConnected(int u, int v) {
+        return twoEdgeCC.isSameSet(u, v);
+    }
+
+    private boolean isTreeEdge(int rep, int u, int v) {
+        return par[rep] != -1
+                && ((bridgeU[rep] == u && bridgeV[rep] == v) || (bridgeU[rep] == v && bridgeV[rep] == u));
+    }
+
+    /**
+     * Makes component v the root of its bridge tree by reversing the parent pointers (and moving
+     * the bridge endpoints along) on the path from v to the old root.
+     */
+    private void makeRoot(int v) {
+        int child = -1;
+        int childU = 0, childV = 0;
+        while (v != -1) {
+            int p = par[v] == -1 ? -1 : twoEdgeCC.findSet(par[v]);
+            int u = bridgeU[v], w = bridgeV[v];
+
+            par[v] = child;
+            bridgeU[v] = childU;
+            bridgeV[v] = childV;
+
+            childU = u;
+            childV = w;
+            child = v;
+            v = p;
+        }
+    }
+
+    /**
+     * Merges all components on the bridge tree path between a and b (same tree).
+     */
+    private void mergePath(int a, int b) {
+        visitStamp++;
+        int lenA = 0, lenB = 0;
+        int lca = -1;
+
+        // Walk up alternately from both sides; the first component seen twice is the LCA
+        while (lca == -1) {
+            if (a != -1) {
+                a = twoEdgeCC.findSet(a);
+                pathA[lenA++] = a;
+                if (lastVisit[a] == visitStamp) {
+                    lca = a;
+                    break;
+                }
+                lastVisit[a] = visitStamp;
+                a = par[a];
+            }
+            if (b != -1) {
+                b = twoEdgeCC.findSet(b);
+                pathB[lenB++] = b;
+                if (lastVisit[b] == visitStamp) {
+                    lca = b;
+                    break;
+                }
+                lastVisit[b] = visitStamp;
+                b = par[b];
+            }
+        }
+
+        int lcaPar = par[lca];
+        int lcaU = bridgeU[lca], lcaV = bridgeV[lca];
+        numBridges -= unionPath(pathA, lenA, lca) + unionPath(pathB, lenB, lca);
+
+        int rep = twoEdgeCC.findSet(lca);
+        par[rep] = lcaPar;
+        bridgeU[rep] = lcaU;
+        bridgeV[rep] = lcaV;
+    }
+
+    /**
+     * Unions the components of path[0, len) below the LCA into it.
+     *
+     * @return number of tree edges (bridges) that were absorbed
+     */
+    private int unionPath(int[] path, int len, int lca) {
+        int absorbed = 0;
+        for (int i = 0; i < len && path[i] != lca; i++) {
+            twoEdgeCC.union(path[i], lca);
+            absorbed++;
+        }
+        return absorbed;
+    }
+
+    public static void main(String[] args) {
+        /*
+            Grow the ArticulationPointsAndBridges example edge by edge:
+
+                       1
+                     /   \
+                    0 --- 2
+                    |
+                    3
+                    |
+                    4
+         */
+        IncrementalBridges g = new IncrementalBridges(5);
+        int[][] edges = {{1, 0}, {0, 2}, {2, 1}, {0, 3}, {3, 4}};
+
+        for (int[] e : edges) {
+            g.addEdge(e[0], e[1]);
+            System.out.println("Added (" + e[0] + ", " + e[1] + "): bridges = " + g.numBridges());
+        }
+        // Expected: 1, 2, 0, 1, 2
+
+        for (int[] b : g.bridges()) {
+            System.out.println(" Edge (" + b[0] + ", " + b[1] + ") is a bridge"); // (3, 0), (4, 3)
+        }
+
+        g.addEdge(4, 1);
+        System.out.println("Added (4, 1): bridges = " + g.numBridges()); // 0
+    }
+}
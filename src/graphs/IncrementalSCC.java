@@ -0,0 +1,265 @@
+package graphs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import unionfind.UnionFind;
+
+/**
+ * Maintains the strongly connected components of a directed graph under edge insertions.
+ * <p>
+ * Components are the sets of a UnionFind; each component is represented by its root.
+ * The condensation DAG between representatives is kept together with a topological order
+ * ord[] of the representatives (Pearce-Kelly style). When u -> v is inserted:
+ * - if ord[comp(u)] < ord[comp(v)] the order is still valid and the edge is just recorded;
+ * - otherwise the affected region is searched: F = everything reachable from comp(v) with
+ *   ord <= ord[comp(u)], B = everything reaching comp(u) with ord >= ord[comp(v)].
+ *   If comp(u) is in F the new edge closes a cycle and the components in F and B (exactly the
+ *   ones on the cycle) are merged. Either way only the positions of F and B are reassigned:
+ *   B first, then the merged component (if any), then F.
+ * <p>
+ * The cost of an insertion depends on the size of the affected region, not on the whole graph.
+ * <p>
+ * Node IDs are assumed to be in the range 0..V-1.
+ */
+public class IncrementalSCC {
+
+    private final int V;
+    private final UnionFind uf;
+    private int numSCC;
+
+    // Condensation DAG; only the entries of current representatives are meaningful
+    private final List<HashSet<Integer>> out;
+    private final List<HashSet<Integer>> in;
+    private final int[] ord;        // ord[rep] = topological position of the component
+
+    // Search state for the affected region
+    private final int[] fwMark, bwMark;
+    private int stamp;
+    private final int[] stack;
+
+    /**
+     * Creates a graph with V nodes and no edges (every node is its own component).
+     */
+    public IncrementalSCC(int V) {
+        this.V = V;
+        this.uf = new UnionFind(V);
+        this.numSCC = V;
+        out = new ArrayList<>(V);
+        in = new ArrayList<>(V);
+        for (int i = 0; i < V; i++) {
+            out.add(new HashSet<>());
+            in.add(new HashSet<>());
+        }
+        ord = new int[V];
+        for (int i = 0; i < V; i++) ord[i] = i;
+        fwMark = new int[V];
+        bwMark = new int[V];
+        stack = new int[V];
+    }
+
+    /**
+     * Inserts the directed edge u -> v.
+     *
+     * @return representatives (before the merge) of the components that were merged into one,
+     * or an empty array if the partition did not change
+     */
+    public int[] addEdge(int u, int v) {
+        int cu = uf.findSet(u);
+        int cv = uf.findSet(v);
+        if (cu == cv || out.get(cu).contains(cv)) return new int[0];
+
+        if (ord[cu] < ord[cv]) {
+            linkComponents(cu, cv);
+            return new int[0];
+        }
+
+        int lowerBound = ord[cv];
+        int upperBound = ord[cu];
+        stamp++;
+
+        // F: forward from cv, staying at or before cu in the order
+        int fSize = search(cv, out, fwMark, true, upperBound);
+        int[] forward = Arrays.copyOf(stack, fSize);
+
+        if (fwMark[cu] != stamp) {
+            // No cycle: move B in front of F
+            int bSize = search(cu, in, bwMark, false, lowerBound);
+            int[] backward = Arrays.copyOf(stack, bSize);
+            reorder(backward, -1, forward);
+            linkComponents(cu, cv);
+            return new int[0];
+        }
+
+        // Cycle: B restricted to F is exactly the set of components on a cycle through the new edge
+        int bSize = search(cu, in, bwMark, false, lowerBound);
+        int[] backward = Arrays.copyOf(stack, bSize);
+
+        int[] cycle = Arrays.stream(backward).filter(c -> fwMark[c] == stamp).toArray();
+        int[] before = Arrays.stream(backward).filter(c -> fwMark[c] != stamp).toArray();
+        int[] after = Arrays.stream(forward).filter(c -> bwMark[c] != stamp).toArray();
+
+        int rep = merge(cycle);
+        reorder(before, rep, after);
+        return cycle;
+    }
+
+    /**
+     * @return the representative of the component containing v
+     */
+    public int component(int v) {
+        return uf.findSet(v);
+    }
+
+    /**
+     * @return true if u and v are strongly connected
+     */
+    public boolean isSameComponent(int u, int v) {
+        return uf.isSameSet(u, v);
+    }
+
+    public int numComponents() {
+        return numSCC;
+    }
+
+    /**
+     * @return representatives of the components directly after the component of v in the condensation DAG
+     */
+    public Set<Integer> successors(int v) {
+        return Collections.unmodifiableSet(out.get(uf.findSet(v)));
+    }
+
+    /**
+     * @return component representatives in topological order
+     */
+    public int[] topologicalOrder() {
+        int[] reps = new int[numSCC];
+        int n = 0;
+        for (int i = 0; i < V; i++) {
+            if (uf.findSet(i) == i) reps[n++] = i;
+        }
+        return Arrays.stream(reps).boxed()
+                .sorted((a, b) -> Integer.compare(ord[a], ord[b]))
+                .mapToInt(Integer::intValue).toArray();
+    }
+
+    private void linkComponents(int cu, int cv) {
+        out.get(cu).add(cv);
+        in.get(cv).add(cu);
+    }
+
+    /**
+     * Iterative DFS over the condensation restricted to ord <= bound (forward) or ord >= bound
+     * (backward). Visited components are left in stack[0, size).
+     */
+    private int search(int start, List<HashSet<Integer>> adj, int[] visited, boolean forward, int bound) {
+        int size = 0, top = 0;
+        int[] pending = new int[16];
+        visited[start] = stamp;
+        pending[top++] = start;
+        while (top > 0) {
+            int c = pending[--top];
+            stack[size++] = c;
+            for (int d : adj.get(c)) {
+                if (visited[d] == stamp) continue;
+                if (forward ? ord[d] > bound : ord[d] < bound) continue;
+                visited[d] = stamp;
+                if (top == pending.length) pending = Arrays.copyOf(pending, top * 2);
+                pending[top++] = d;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Reassigns the positions currently held by before, middle and after so that they come in
+     * that order (each group keeps its relative order). middle is -1 when there is no merged
+     * component; its old positions are then already part of before/after.
+     */
+    private void reorder(int[] before, int middle, int[] after) {
+        sortByOrd(before);
+        sortByOrd(after);
+
+        int n = before.length + after.length + (middle == -1 ? 0 : 1);
+        int[] slots = new int[n];
+        int k = 0;
+        for (int c : before) slots[k++] = ord[c];
+        if (middle != -1) slots[k++] = ord[middle];
+        for (int c : after) slots[k++] = ord[c];
+        Arrays.sort(slots);
+
+        k = 0;
+        for (int c : before) ord[c] = slots[k++];
+        if (middle != -1) ord[middle] = slots[k++];
+        for (int c : after) ord[c] = slots[k++];
+    }
+
+    private void sortByOrd(int[] comps) {
+        Integer[] boxed = Arrays.stream(comps).boxed().toArray(Integer[]::new);
+        Arrays.sort(boxed, (a, b) -> Integer.compare(ord[a], ord[b]));
+        for (int i = 0; i < comps.length; i++) comps[i] = boxed[i];
+    }
+
+    /**
+     * Unions all components of the cycle and rebuilds the condensation edges of the result.
+     * The merged component takes the smallest position of the cycle members; the others are freed.
+     */
+    private int merge(int[] cycle) {
+        int minOrd = Integer.MAX_VALUE;
+        for (int c : cycle) {
+            minOrd = Math.min(minOrd, ord[c]);
+            uf.union(cycle[0], c);
+        }
+        int rep = uf.findSet(cycle[0]);
+        numSCC -= cycle.length - 1;
+
+        HashSet<Integer> newOut = new HashSet<>();
+        HashSet<Integer> newIn = new HashSet<>();
+        for (int c : cycle) {
+            for (int d : out.get(c)) {
+                in.get(d).remove(c);
+                if (uf.findSet(d) != rep) newOut.add(d);
+            }
+            for (int d : in.get(c)) {
+                out.get(d).remove(c);
+                if (uf.findSet(d) != rep) newIn.add(d);
+            }
+            out.get(c).clear();
+            in.get(c).clear();
+        }
+        for (int d : newOut) in.get(d).add(rep);
+        for (int d : newIn) out.get(d).add(rep);
+        out.set(rep, newOut);
+        in.set(rep, newIn);
+
+        ord[rep] = minOrd;
+        return rep;
+    }
+
+    public static void main(String[] args) {
+        /*
+         * Build the TarjanSCC example one edge at a time:
+         *   0 -> 1, 1 -> 3, 3 -> 2, 2 -> 1 (closes {1, 2, 3}),
+         *   3 -> 4, 4 -> 5, 5 -> 7, 7 -> 6, 6 -> 4 (closes {4, 5, 6, 7})
+         */
+        IncrementalSCC scc = new IncrementalSCC(8);
+        int[][] edges = {{0, 1}, {1, 3}, {3, 2}, {2, 1}, {3, 4}, {4, 5}, {5, 7}, {7, 6}, {6, 4}};
+
+        for (int[] e : edges) {
+            int[] merged = scc.addEdge(e[0], e[1]);
+            System.out.print("Added " + e[0] + " -> " + e[1] + ", components = " + scc.numComponents());
+            if (merged.length > 0) {
+                System.out.print(", merged " + Arrays.toString(merged));
+            }
+            System.out.println();
+        }
+
+        System.out.println("Topological order of components: " + Arrays.toString(scc.topologicalOrder()));
+        System.out.println("1 and 2 strongly connected? " + scc.isSameComponent(1, 2)); // true
+        System.out.println("0 and 1 strongly connected? " + scc.isSameComponent(0, 1)); // false
+    }
+}
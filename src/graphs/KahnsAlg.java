@@ -1,6 +1,10 @@
 package graphs;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 
 public class KahnsAlg {
 
@@ -55,6 +59,101 @@ public class KahnsAlg {
         return topoOrder;
     }
 
+    /**
+     * Level-synchronous parallel Kahn's algorithm on a CSR graph.
+     * <p>
+     * Level 0 holds the nodes with indegree 0, level i + 1 the nodes whose last predecessor is in
+     * level i. Every level is split across the pool; each edge does one atomic indegree decrement,
+     * and the thread that brings a node to 0 appends it to the next level through a shared atomic
+     * tail, so every node is claimed exactly once without locks.
+     * <p>
+     * Work: O(V + E), span: O(number of levels * log V)
+     * Space complexity: O(V)
+     *
+     * @param offsets CSR offsets (length V + 1)
+     * @param targets CSR targets
+     * @param pool    pool to run on
+     * @return the levels (wavefronts) in order, or an empty array if a cycle exists
+     */
+    public static int[][] parallelTopologicalLevels(int[] offsets, int[] targets, ForkJoinPool pool) {
+        int V = offsets.length - 1;
+        AtomicIntegerArray indegree = new AtomicIntegerArray(V);
+        int[] order = new int[V];
+        AtomicInteger tail = new AtomicInteger();
+
+        pool.invoke(new LevelTask(offsets, targets, indegree, order, tail, null, 0, V, LevelTask.COUNT));
+        pool.invoke(new LevelTask(offsets, targets, indegree, order, tail, null, 0, V, LevelTask.SEED));
+
+        List<int[]> levels = new ArrayList<>();
+        int lo = 0;
+        int hi = tail.get();
+        while (lo < hi) {
+            levels.add(Arrays.copyOfRange(order, lo, hi));
+            pool.invoke(new LevelTask(offsets, targets, indegree, order, tail, order, lo, hi, LevelTask.RELEASE));
+            lo = hi;
+            hi = tail.get();
+        }
+
+        // Nodes on a cycle never reach indegree 0
+        if (hi != V) {
+            return new int[0][];
+        }
+        return levels.toArray(new int[0][]);
+    }
+
+    /**
+     * One parallel pass of parallelTopologicalLevels over an index range:
+     * COUNT computes indegrees, SEED collects the indegree-0 nodes,
+     * RELEASE decrements the successors of the current level.
+     */
+    static class LevelTask extends RecursiveAction {
+        static final int COUNT = 0, SEED = 1, RELEASE = 2;
+        final int seqThreshold = 1024;
+
+        final int[] offsets, targets, order, level;
+        final AtomicIntegerArray indegree;
+        final AtomicInteger tail;
+        final int start, end, mode;
+
+        LevelTask(int[] offsets, int[] targets, AtomicIntegerArray indegree, int[] order, AtomicInteger tail,
+                  int[] level, int start, int end, int mode) {
+            this.offsets = offsets;
+            this.targets = targets;
+            this.indegree = indegree;
+            this.order = order;
+            this.tail = tail;
+            this.level = level;
+            this.start = start;
+            this.end = end;
+            this.mode = mode;
+        }
+
+        protected void compute() {
+            if ((end - start) < seqThreshold) {
+                for (int i = start; i < end; i++) {
+                    if (mode == COUNT) {
+                        for (int e = offsets[i]; e < offsets[i + 1]; e++) {
+                            indegree.incrementAndGet(targets[e]);
+                        }
+                    } else if (mode == SEED) {
+                        if (indegree.get(i) == 0) order[tail.getAndIncrement()] = i;
+                    } else {
+                        int u = level[i];
+                        for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                            if (indegree.decrementAndGet(targets[e]) == 0) {
+                                order[tail.getAndIncrement()] = targets[e];
+                            }
+                        }
+                    }
+                }
+            } else {
+                int middle = start + ((end - start) / 2);
+                invokeAll(new LevelTask(offsets, targets, indegree, order, tail, level, start, middle, mode),
+                        new LevelTask(offsets, targets, indegree, order, tail, level, middle, end, mode));
+            }
+        }
+    }
+
 
     // Example usage
     public static void main(String[] args) {
@@ -74,6 +173,15 @@ public class KahnsAlg {
         } else {
             System.out.println("Topological Order: " + result);
         }
+
+        // Same DAG in CSR form (nodes 0..5), processed level by level in parallel
+        int[] offsets = {0, 0, 0, 1, 2, 4, 6};
+        int[] targets = {3, 1, 0, 1, 2, 0};
+        int[][] levels = parallelTopologicalLevels(offsets, targets, ForkJoinPool.commonPool());
+        for (int i = 0; i < levels.length; i++) {
+            System.out.println("Level " + i + ": " + Arrays.toString(levels[i]));
+        }
+        // Level 0: [4, 5], Level 1: [2, 0] (any order), Level 2: [3], Level 3: [1]
     }
 }
 
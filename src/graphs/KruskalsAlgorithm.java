@@ -1,6 +1,7 @@
 package graphs;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -68,6 +69,173 @@ public class KruskalsAlgorithm {
         return mstCost;
     }
 
+    /**
+     * Kruskal on primitive edge arrays with filter-Kruskal pruning and radix sorting.
+     * <p>
+     * Every undirected edge is stored once, by id, in an int array; nothing is boxed and
+     * nothing is printed. Instead of sorting all edges up front:
+     * 1. A range of edges larger than the threshold is partitioned around a pivot weight into
+     *    light and heavy edges, like quicksort.
+     * 2. The light part is solved first (recursively).
+     * 3. The heavy edges whose endpoints the light part already connected are filtered out,
+     *    then the remaining heavy part is solved the same way.
+     * 4. A range that is small enough is sorted with an LSD radix sort on the weights (signed
+     *    longs, compared as unsigned after flipping the sign bit) and scanned as in Kruskal.
+     * Each edge is radix sorted at most once, and only if it survived every filter before it;
+     * on dense graphs most heavy edges never get sorted at all. The search stops as soon as
+     * V - 1 edges are taken.
+     * <p>
+     * Time complexity: O(E * log(E / threshold)) partitioning and filtering, O(E) sorting
+     *                  (8 byte passes), plus union-find
+     * Space complexity: O(V + E)
+     *
+     * @param V      number of vertices
+     * @param edgeU  first endpoint of every undirected edge
+     * @param edgeV  second endpoint of every undirected edge
+     * @param weight weight of every edge
+     * @return ids (indices into edgeU / edgeV / weight) of the minimum spanning forest edges,
+     *         in the order they were taken (non-decreasing weight)
+     */
+    public static int[] filterKruskal(int V, int[] edgeU, int[] edgeV, long[] weight) {
+        FilterKruskal run = new FilterKruskal(V, edgeU, edgeV, weight);
+        run.solve(0, edgeU.length);
+        return Arrays.copyOf(run.forest, run.size);
+    }
+
+    /**
+     * State of one filterKruskal call.
+     */
+    private static class FilterKruskal {
+        final int[] edgeU, edgeV;
+        final long[] weight;
+        final int[] ids;                // edge ids, rearranged in place by partition / filter
+        final int threshold;            // ranges up to this size are sorted directly
+        final UnionFind uf;
+        final int[] forest;
+        int size;
+
+        FilterKruskal(int V, int[] edgeU, int[] edgeV, long[] weight) {
+            this.edgeU = edgeU;
+            this.edgeV = edgeV;
+            this.weight = weight;
+            ids = new int[edgeU.length];
+            for (int i = 0; i < ids.length; i++) ids[i] = i;
+            threshold = Math.max(4096, V);
+            uf = new UnionFind(V);
+            forest = new int[Math.max(0, V - 1)];
+        }
+
+        /**
+         * Adds the MST edges among ids[lo, hi) (all heavier than the edges handled before).
+         */
+        void solve(int lo, int hi) {
+            // The heavy part is handled by the loop, so only the light part recurses
+            while (hi - lo > 0 && size < forest.length) {
+                if (hi - lo <= threshold) {
+                    sortAndScan(lo, hi);
+                    return;
+                }
+                int mid = partition(lo, hi);
+                if (mid == lo || mid == hi) {
+                    // Every weight on one side of the pivot (e.g. all equal): no progress
+                    sortAndScan(lo, hi);
+                    return;
+                }
+                solve(lo, mid);
+                hi = filter(mid, hi);
+                lo = mid;
+            }
+        }
+
+        /**
+         * Moves the edges lighter than a median-of-three pivot to the front of ids[lo, hi).
+         *
+         * @return start of the heavy part
+         */
+        int partition(int lo, int hi) {
+            long a = weight[ids[lo]];
+            long b = weight[ids[lo + (hi - lo) / 2]];
+            long c = weight[ids[hi - 1]];
+            long pivot = Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+
+            // Edges with weight == pivot go light unless all of them are; then strictly lighter
+            boolean equalLight = a != pivot || b != pivot || c != pivot;
+            int i = lo;
+            for (int j = lo; j < hi; j++) {
+                long w = weight[ids[j]];
+                if (w < pivot || (equalLight && w == pivot)) {
+                    int tmp = ids[i];
+                    ids[i++] = ids[j];
+                    ids[j] = tmp;
+                }
+            }
+            return i;
+        }
+
+        /**
+         * Drops the edges of ids[lo, hi) whose endpoints are already connected.
+         *
+         * @return end of the remaining edges
+         */
+        int filter(int lo, int hi) {
+            int end = lo;
+            for (int i = lo; i < hi; i++) {
+                int e = ids[i];
+                if (!uf.isSameSet(edgeU[e], edgeV[e])) ids[end++] = e;
+            }
+            return end;
+        }
+
+        /**
+         * Radix sorts ids[lo, hi) by weight and runs Kruskal's scan over them.
+         */
+        void sortAndScan(int lo, int hi) {
+            int n = hi - lo;
+            long[] keys = new long[n];
+            int[] order = new int[n];
+            for (int i = 0; i < n; i++) {
+                order[i] = ids[lo + i];
+                keys[i] = weight[order[i]] ^ Long.MIN_VALUE; // signed order as unsigned order
+            }
+            radixSort(keys, order);
+
+            for (int i = 0; i < n && size < forest.length; i++) {
+                int e = order[i];
+                if (!uf.isSameSet(edgeU[e], edgeV[e])) {
+                    uf.union(edgeU[e], edgeV[e]);
+                    forest[size++] = e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Stable LSD radix sort of keys (as unsigned longs), permuting values along.
+     * Eight passes of one byte each; a pass is skipped when all keys share that byte.
+     */
+    private static void radixSort(long[] keys, int[] values) {
+        int n = keys.length;
+        if (n < 2) return;
+        long[] keyBuffer = new long[n];
+        int[] valueBuffer = new int[n];
+        int[] count = new int[257];
+
+        for (int shift = 0; shift < 64; shift += 8) {
+            Arrays.fill(count, 0);
+            for (long key : keys) count[(int) ((key >>> shift) & 0xFF) + 1]++;
+            if (count[(int) ((keys[0] >>> shift) & 0xFF) + 1] == n) continue;
+            for (int b = 0; b < 256; b++) count[b + 1] += count[b];
+
+            for (int i = 0; i < n; i++) {
+                int pos = count[(int) ((keys[i] >>> shift) & 0xFF)]++;
+                keyBuffer[pos] = keys[i];
+                valueBuffer[pos] = values[i];
+            }
+            System.arraycopy(keyBuffer, 0, keys, 0, n);
+            System.arraycopy(valueBuffer, 0, values, 0, n);
+        }
+    }
+
     public static void main(String[] args) {
         int V = 4; // Number of vertices
         HashMap<Integer, List<Edge>> graph = new HashMap<>();
@@ -116,5 +284,16 @@ public class KruskalsAlgorithm {
         // Compute MST cost using Kruskal's algorithm
         int mstCost = kruskal(V, graph);
         System.out.println("MST cost = " + mstCost); // Expected output: MST cost = 19
+
+        // Same graph as primitive edge arrays, each undirected edge once
+        int[] edgeU = {0, 0, 0, 1, 2};
+        int[] edgeV = {1, 2, 3, 3, 3};
+        long[] weight = {10, 6, 5, 15, 4};
+        long cost = 0;
+        for (int e : filterKruskal(V, edgeU, edgeV, weight)) {
+            System.out.println("MST edge " + edgeU[e] + " - " + edgeV[e] + " (" + weight[e] + ")");
+            cost += weight[e];
+        }
+        System.out.println("Filter-Kruskal MST cost = " + cost); // Expected output: 19 (edges 2-3, 0-3, 0-1)
     }
 }
\ No newline at end of file
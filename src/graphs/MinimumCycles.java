@@ -0,0 +1,436 @@
+package graphs;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+/**
+ * Minimum-mean cycle (Karp) and minimum-weight cycle detection on a weighted directed graph.
+ * <p>
+ * Unlike FloydWarshall.findCheapestNegativeCycle, nothing here allocates a V x V matrix:
+ * the graph is stored as flat edge arrays (forward star) and every pass keeps only O(V)
+ * extra state, so the methods work on sparse graphs with hundreds of thousands of vertices.
+ * <p>
+ * Node IDs are assumed to be in the range 0..V-1.
+ */
+public class MinimumCycles {
+
+    private static final long INF = Long.MAX_VALUE / 4; // prevent overflow when adding weights
+
+    /**
+     * A directed cycle v0 -> v1 -> ... -> v(k-1) -> v0 and its total weight.
+     */
+    public static class Cycle {
+        public final int[] vertices;
+        public final long weight;
+
+        Cycle(int[] vertices, long weight) {
+            this.vertices = vertices;
+            this.weight = weight;
+        }
+
+        /**
+         * @return average edge weight of the cycle
+         */
+        public double mean() {
+            return (double) weight / vertices.length;
+        }
+    }
+
+    private final int V;
+
+    // Forward star: edges leaving u are head[u], next[head[u]], ... (-1 terminates)
+    private int[] head;
+    private int[] next;
+    private int[] from;
+    private int[] to;
+    private long[] weight;
+    private int E;
+
+    /**
+     * @param V number of vertices (0..V-1)
+     */
+    public MinimumCycles(int V) {
+        this.V = V;
+        head = new int[V];
+        Arrays.fill(head, -1);
+        next = new int[16];
+        from = new int[16];
+        to = new int[16];
+        weight = new long[16];
+    }
+
+    /**
+     * Add directed edge u -> v with weight w.
+     */
+    public void addEdge(int u, int v, long w) {
+        if (E == to.length) {
+            int cap = E * 2;
+            next = Arrays.copyOf(next, cap);
+            from = Arrays.copyOf(from, cap);
+            to = Arrays.copyOf(to, cap);
+            weight = Arrays.copyOf(weight, cap);
+        }
+        from[E] = u;
+        to[E] = v;
+        weight[E] = w;
+        next[E] = head[u];
+        head[u] = E++;
+    }
+
+    /**
+     * Karp's minimum-mean cycle algorithm.
+     * <p>
+     * Let d_k(v) be the weight of the lightest walk with exactly k edges ending at v
+     * (starting anywhere). Karp's theorem says the minimum cycle mean is
+     * <p>
+     * min over v of max over k < V of (d_V(v) - d_k(v)) / (V - k)
+     * <p>
+     * The textbook version stores the whole (V + 1) x V table of d_k. Here the table is computed
+     * twice instead: the first pass only keeps d_V, the second recomputes d_0..d_(V-1) row by row
+     * and folds each row into the running max. The cycle itself is then recovered by subtracting
+     * the mean from every edge (which makes the minimum-mean cycle a zero-weight cycle and leaves
+     * no negative cycles) and finding any cycle made only of tight edges.
+     * <p>
+     * Time complexity: O(V * E)
+     * Space complexity: O(V + E)
+     * <p>
+     * Weights must be small enough that |w| * V * V fits in a long.
+     *
+     * @return a cycle with minimum mean weight, or null if the graph is acyclic
+     */
+    public Cycle minimumMeanCycle() {
+        if (V == 0) return null;
+
+        long[] prev = new long[V];
+        long[] curr = new long[V];
+
+        // First pass: d_V only
+        for (int k = 1; k <= V; k++) {
+            relaxRow(prev, curr);
+            long[] tmp = prev;
+            prev = curr;
+            curr = tmp;
+        }
+        long[] dV = prev;
+
+        // Second pass: for every v keep the largest (d_V(v) - d_k(v)) / (V - k) as a fraction
+        long[] bestNum = new long[V];
+        long[] bestDen = new long[V];
+        long[] row = new long[V];
+        long[] scratch = new long[V];
+        for (int k = 0; k < V; k++) {
+            if (k > 0) {
+                relaxRow(row, scratch);
+                long[] tmp = row;
+                row = scratch;
+                scratch = tmp;
+            }
+            long den = V - k;
+            for (int v = 0; v < V; v++) {
+                if (dV[v] >= INF || row[v] >= INF) continue;
+                long num = dV[v] - row[v];
+                if (bestDen[v] == 0 || num * bestDen[v] > bestNum[v] * den) {
+                    bestNum[v] = num;
+                    bestDen[v] = den;
+                }
+            }
+        }
+
+        // Minimum over v of the per-vertex maxima
+        long muNum = 0, muDen = 0;
+        for (int v = 0; v < V; v++) {
+            if (bestDen[v] == 0) continue;
+            if (muDen == 0 || bestNum[v] * muDen < muNum * bestDen[v]) {
+                muNum = bestNum[v];
+                muDen = bestDen[v];
+            }
+        }
+        if (muDen == 0) return null; // no walk of length V exists -> acyclic
+
+        long g = gcd(Math.abs(muNum), muDen);
+        muNum /= g;
+        muDen /= g;
+
+        // Reweight w' = w * den - num: the minimum-mean cycle now has weight 0 and nothing is negative
+        long[] shifted = new long[E];
+        for (int e = 0; e < E; e++) {
+            shifted[e] = weight[e] * muDen - muNum;
+        }
+        long[] potential = new long[V];
+        for (int round = 0; round < V; round++) {
+            boolean changed = false;
+            for (int e = 0; e < E; e++) {
+                if (potential[from[e]] + shifted[e] < potential[to[e]]) {
+                    potential[to[e]] = potential[from[e]] + shifted[e];
+                    changed = true;
+                }
+            }
+            if (!changed) break;
+        }
+
+        // Every cycle consisting only of tight edges (potential[u] + w' == potential[v]) has weight 0
+        return findTightCycle(shifted, potential);
+    }
+
+    /**
+     * Finds a directed cycle of minimum total weight.
+     * <p>
+     * If the graph contains a negative cycle the problem is NP-hard (it includes the longest
+     * simple cycle problem), so in that case a negative cycle found by Bellman-Ford is returned
+     * instead of the cheapest one.
+     * <p>
+     * Otherwise the weights are made non-negative with Johnson's potentials and a pruned Dijkstra
+     * is run from every vertex s: the cheapest cycle through s is dist(s, u) + w(u, s) over the
+     * edges u -> s. All per-source arrays are reused, so memory stays O(V + E).
+     * <p>
+     * Time complexity: O(V * E) for the potentials + O(V * E * log V) for the Dijkstra runs
+     * Space complexity: O(V + E)
+     *
+     * @return the cheapest cycle (or a negative cycle, see above), or null if the graph is acyclic
+     */
+    public Cycle minimumWeightCycle() {
+        long[] potential = new long[V];
+        boolean hasNegative = false;
+        for (int e = 0; e < E; e++) {
+            if (weight[e] < 0) {
+                hasNegative = true;
+                break;
+            }
+        }
+
+        if (hasNegative) {
+            // Bellman-Ford from a virtual source connected to every vertex with weight 0
+            int[] parentEdge = new int[V];
+            Arrays.fill(parentEdge, -1);
+            int lastRelaxed = -1;
+            for (int round = 0; round < V; round++) {
+                lastRelaxed = -1;
+                for (int e = 0; e < E; e++) {
+                    if (potential[from[e]] + weight[e] < potential[to[e]]) {
+                        potential[to[e]] = potential[from[e]] + weight[e];
+                        parentEdge[to[e]] = e;
+                        lastRelaxed = to[e];
+                    }
+                }
+                if (lastRelaxed == -1) break;
+            }
+            if (lastRelaxed != -1) {
+                return negativeCycleFrom(lastRelaxed, parentEdge);
+            }
+        }
+
+        long[] dist = new long[V];
+        int[] parentEdge = new int[V];
+        boolean[] done = new boolean[V];
+        int[] touched = new int[V];
+        Arrays.fill(dist, INF);
+
+        PriorityQueue<long[]> pq = new PriorityQueue<>(Comparator.comparingLong(a -> a[0]));
+
+        long best = INF;          // best cycle weight so far (in reduced weights == real weights)
+        int bestSource = -1;
+        int bestClosingEdge = -1;
+        int[] bestCycle = null;
+
+        // Reverse adjacency is not stored, so the closing edge u -> s is detected while relaxing u
+        for (int s = 0; s < V; s++) {
+            int numTouched = 0;
+            dist[s] = 0;
+            parentEdge[s] = -1;
+            touched[numTouched++] = s;
+            pq.add(new long[]{0L, s});
+
+            while (!pq.isEmpty()) {
+                long[] top = pq.poll();
+                long d = top[0];
+                int u = (int) top[1];
+                if (done[u] || d > dist[u]) continue;
+                if (d >= best) break; // every cycle through s found from here on costs at least d
+                done[u] = true;
+
+                for (int e = head[u]; e != -1; e = next[e]) {
+                    int v = to[e];
+                    long w = weight[e] + potential[u] - potential[v]; // reduced weight >= 0
+                    if (v == s) {
+                        if (d + w < best) {
+                            best = d + w;
+                            bestSource = s;
+                            bestClosingEdge = e;
+                            bestCycle = tracePath(s, u, parentEdge);
+                        }
+                        continue;
+                    }
+                    if (d + w < dist[v]) {
+                        if (dist[v] == INF) touched[numTouched++] = v;
+                        dist[v] = d + w;
+                        parentEdge[v] = e;
+                        pq.add(new long[]{dist[v], v});
+                    }
+                }
+            }
+
+            pq.clear();
+            for (int i = 0; i < numTouched; i++) {
+                dist[touched[i]] = INF;
+                done[touched[i]] = false;
+            }
+        }
+
+        if (bestSource == -1) return null;
+        return new Cycle(bestCycle, cycleWeight(bestCycle));
+    }
+
+    /**
+     * curr[v] = min over edges (u, v) of prev[u] + w, i.e. one more step of walk lengths.
+     */
+    private void relaxRow(long[] prev, long[] curr) {
+        Arrays.fill(curr, INF);
+        for (int e = 0; e < E; e++) {
+            long du = prev[from[e]];
+            if (du < INF && du + weight[e] < curr[to[e]]) {
+                curr[to[e]] = du + weight[e];
+            }
+        }
+    }
+
+    /**
+     * Iterative DFS over the tight edges; the first back edge closes a cycle.
+     */
+    private Cycle findTightCycle(long[] shifted, long[] potential) {
+        byte[] state = new byte[V];   // 0 = unvisited, 1 = on DFS stack, 2 = finished
+        int[] edgeIt = new int[V];    // next edge to scan for each vertex on the stack
+        int[] stack = new int[V];
+        int[] stackPos = new int[V];
+
+        for (int root = 0; root < V; root++) {
+            if (state[root] != 0) continue;
+            int top = 0;
+            stack[top++] = root;
+            stackPos[root] = 0;
+            state[root] = 1;
+            edgeIt[root] = head[root];
+
+            while (top > 0) {
+                int u = stack[top - 1];
+                int e = edgeIt[u];
+                if (e == -1) {
+                    state[u] = 2;
+                    top--;
+                    continue;
+                }
+                edgeIt[u] = next[e];
+                int v = to[e];
+                if (potential[u] + shifted[e] != potential[v]) continue; // not tight
+
+                if (state[v] == 1) {
+                    int[] cycle = Arrays.copyOfRange(stack, stackPos[v], top);
+                    return new Cycle(cycle, cycleWeight(cycle));
+                }
+                if (state[v] == 0) {
+                    state[v] = 1;
+                    stackPos[v] = top;
+                    stack[top++] = v;
+                    edgeIt[v] = head[v];
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Walks V parent edges back from a vertex relaxed in the V-th Bellman-Ford round
+     * (which is guaranteed to land on a negative cycle) and collects that cycle.
+     */
+    private Cycle negativeCycleFrom(int v, int[] parentEdge) {
+        for (int i = 0; i < V; i++) {
+            v = from[parentEdge[v]];
+        }
+        int len = 0;
+        int x = v;
+        do {
+            len++;
+            x = from[parentEdge[x]];
+        } while (x != v);
+
+        int[] cycle = new int[len];
+        x = v;
+        for (int i = len - 1; i >= 0; i--) {
+            cycle[i] = x;
+            x = from[parentEdge[x]];
+        }
+        return new Cycle(cycle, cycleWeight(cycle));
+    }
+
+    /**
+     * Vertices on the shortest-path tree path s -> ... -> u.
+     */
+    private int[] tracePath(int s, int u, int[] parentEdge) {
+        int len = 1;
+        for (int x = u; x != s; x = from[parentEdge[x]]) len++;
+        int[] path = new int[len];
+        for (int x = u, i = len - 1; i >= 0; i--) {
+            path[i] = x;
+            if (x != s) x = from[parentEdge[x]];
+        }
+        return path;
+    }
+
+    /**
+     * Sum of the lightest edge weights between consecutive cycle vertices.
+     */
+    private long cycleWeight(int[] cycle) {
+        long total = 0;
+        for (int i = 0; i < cycle.length; i++) {
+            int u = cycle[i];
+            int v = cycle[(i + 1) % cycle.length];
+            long w = INF;
+            for (int e = head[u]; e != -1; e = next[e]) {
+                if (to[e] == v) w = Math.min(w, weight[e]);
+            }
+            total += w;
+        }
+        return total;
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long t = a % b;
+            a = b;
+            b = t;
+        }
+        return a == 0 ? 1 : a;
+    }
+
+    public static void main(String[] args) {
+        /*
+            Example graph:
+
+                0 -> 1 (2), 1 -> 2 (2), 2 -> 0 (2)     cycle {0,1,2}: weight 6, mean 2
+                2 -> 3 (1), 3 -> 2 (4)                 cycle {2,3}:   weight 5, mean 2.5
+                3 -> 4 (-1), 4 -> 3 (3)                cycle {3,4}:   weight 2, mean 1
+         */
+        MinimumCycles g = new MinimumCycles(5);
+        g.addEdge(0, 1, 2);
+        g.addEdge(1, 2, 2);
+        g.addEdge(2, 0, 2);
+        g.addEdge(2, 3, 1);
+        g.addEdge(3, 2, 4);
+        g.addEdge(3, 4, -1);
+        g.addEdge(4, 3, 3);
+
+        Cycle mean = g.minimumMeanCycle();
+        System.out.println("Minimum-mean cycle: " + Arrays.toString(mean.vertices)
+                + " mean = " + mean.mean()); // [3, 4] mean = 1.0
+
+        Cycle cheapest = g.minimumWeightCycle();
+        System.out.println("Minimum-weight cycle: " + Arrays.toString(cheapest.vertices)
+                + " weight = " + cheapest.weight); // [3, 4] or [4, 3] weight = 2
+
+        // Add a negative cycle 0 -> 1 -> 0 with weight -1
+        g.addEdge(1, 0, -3);
+        Cycle negative = g.minimumWeightCycle();
+        System.out.println("Negative cycle: " + Arrays.toString(negative.vertices)
+                + " weight = " + negative.weight); // weight < 0
+    }
+}
@@ -0,0 +1,196 @@
+package graphs;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Multi-source bit-parallel BFS (MS-BFS, Then et al.) for running many unweighted BFS
+ * traversals over the same graph at once.
+ * <p>
+ * Every source gets a lane (bit) and every vertex keeps W = ceil(S / 64) words of lanes for
+ * three sets: seen (lanes that already reached the vertex), visit (lanes whose frontier contains
+ * it) and visitNext. One level is:
+ * <p>
+ * for every vertex v with visit[v] != 0, for every neighbour n: visitNext[n] |= visit[v]
+ * for every vertex v: newly = visitNext[v] & ~seen[v]; seen[v] |= newly
+ * <p>
+ * so a single scan of an edge advances all 64 * W traversals that have it on their frontier,
+ * instead of touching the edge once per source as repeated bfsSSSP calls do.
+ * <p>
+ * Sources beyond 64 * BATCH_WORDS run in further batches of that width.
+ * <p>
+ * Time complexity: O(depth * (V + E) * W) word operations per batch of S = 64 * W sources
+ * Space complexity: O(V * W) with W <= BATCH_WORDS
+ */
+public class MultiSourceBFS {
+
+    /**
+     * Receives every (vertex, set of sources) discovery.
+     */
+    public interface Visitor {
+        /**
+         * The sources word * 64 + i for every bit i set in lanes reach vertex for the first time
+         * at the given depth.
+         */
+        void visit(int vertex, int word, long lanes, int depth);
+    }
+
+    // Lanes per batch are 64 * BATCH_WORDS; more sources run as consecutive batches
+    private static final int BATCH_WORDS = 8;
+
+    /**
+     * Runs one BFS per source over a CSR graph, 64 * BATCH_WORDS at the same time.
+     * <p>
+     * The sources are processed in batches, so the BFS state stays O(V * BATCH_WORDS) words
+     * however many sources there are; the word numbers passed to the visitor are global
+     * (source i is always bit i % 64 of word i / 64).
+     *
+     * @param offsets CSR offsets (length V + 1)
+     * @param targets CSR targets
+     * @param sources source vertices; source i uses lane i (duplicates are allowed)
+     * @param visitor called for every first visit, depth 0 included
+     * @throws ArithmeticException if the state of one batch does not fit in an array
+     */
+    public static void run(int[] offsets, int[] targets, int[] sources, Visitor visitor) {
+        int V = offsets.length - 1;
+        int W = Math.min(BATCH_WORDS, (sources.length + 63) >>> 6);
+        int size = Math.multiplyExact(V, W);
+
+        long[] seen = new long[size];
+        long[] visit = new long[size];
+        long[] visitNext = new long[size];
+
+        for (int first = 0; first < sources.length; first += W << 6) {
+            int count = Math.min(W << 6, sources.length - first);
+            runBatch(offsets, targets, sources, first, count, W, seen, visit, visitNext, visitor);
+            Arrays.fill(seen, 0L);
+            Arrays.fill(visit, 0L);
+            Arrays.fill(visitNext, 0L);
+        }
+    }
+
+    /**
+     * One batch: sources[first .. first + count) on lanes 0 .. count - 1 of W words per vertex.
+     * The state arrays must be zero on entry.
+     */
+    private static void runBatch(int[] offsets, int[] targets, int[] sources, int first, int count,
+                                 int W, long[] seen, long[] visit, long[] visitNext, Visitor visitor) {
+        int V = offsets.length - 1;
+        int wordBase = first >>> 6; // global word number of lane word 0
+
+        for (int i = 0; i < count; i++) {
+            int s = sources[first + i];
+            long bit = 1L << i;
+            seen[s * W + (i >>> 6)] |= bit;
+            visit[s * W + (i >>> 6)] |= bit;
+        }
+        for (int v = 0; v < V; v++) {
+            for (int w = 0; w < W; w++) {
+                if (visit[v * W + w] != 0) visitor.visit(v, wordBase + w, visit[v * W + w], 0);
+            }
+        }
+
+        boolean active = count > 0;
+        for (int depth = 1; active; depth++) {
+            // Expand: push every frontier word along the out-edges
+            for (int v = 0; v < V; v++) {
+                int base = v * W;
+                for (int w = 0; w < W; w++) {
+                    long lanes = visit[base + w];
+                    if (lanes == 0) continue;
+                    for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                        visitNext[targets[e] * W + w] |= lanes;
+                    }
+                }
+            }
+
+            // Keep only lanes that see the vertex for the first time
+            active = false;
+            for (int v = 0; v < V; v++) {
+                int base = v * W;
+                for (int w = 0; w < W; w++) {
+                    long newly = visitNext[base + w] & ~seen[base + w];
+                    visitNext[base + w] = newly;
+                    if (newly != 0) {
+                        seen[base + w] |= newly;
+                        visitor.visit(v, wordBase + w, newly, depth);
+                        active = true;
+                    }
+                }
+            }
+
+            long[] tmp = visit;
+            visit = visitNext;
+            visitNext = tmp;
+            Arrays.fill(visitNext, 0L);
+        }
+    }
+
+    /**
+     * @return dist[i][v] = BFS distance from sources[i] to v, or Integer.MAX_VALUE if unreachable
+     */
+    public static int[][] distances(int[] offsets, int[] targets, int[] sources) {
+        int V = offsets.length - 1;
+        int[][] dist = new int[sources.length][V];
+        for (int[] row : dist) Arrays.fill(row, Integer.MAX_VALUE);
+
+        run(offsets, targets, sources, (vertex, word, lanes, depth) -> {
+            while (lanes != 0) {
+                int lane = (word << 6) + Long.numberOfTrailingZeros(lanes);
+                lanes &= lanes - 1;
+                dist[lane][vertex] = depth;
+            }
+        });
+        return dist;
+    }
+
+    /**
+     * Closeness centrality of every source: (reached - 1) / (sum of distances to reached vertices),
+     * or 0 for a source that reaches nothing else. Needs O(S) memory besides the BFS state of
+     * one batch (O(V * BATCH_WORDS)), so thousands of sources only cost more batches.
+     */
+    public static double[] closeness(int[] offsets, int[] targets, int[] sources) {
+        long[] sum = new long[sources.length];
+        long[] reached = new long[sources.length];
+
+        run(offsets, targets, sources, (vertex, word, lanes, depth) -> {
+            while (lanes != 0) {
+                int lane = (word << 6) + Long.numberOfTrailingZeros(lanes);
+                lanes &= lanes - 1;
+                sum[lane] += depth;
+                reached[lane]++;
+            }
+        });
+
+        double[] result = new double[sources.length];
+        for (int i = 0; i < sources.length; i++) {
+            result[i] = sum[i] == 0 ? 0.0 : (double) (reached[i] - 1) / sum[i];
+        }
+        return result;
+    }
+
+    public static void main(String[] args) {
+        /*
+            Same graph as SSSPUnweightedGraph:
+                0 -- 1 -- 2
+                |    |
+                3 -- 4
+        */
+        int V = 5;
+        HashMap<Integer, List<Integer>> graph = new HashMap<>();
+        graph.put(0, List.of(1, 3));
+        graph.put(1, List.of(0, 2, 4));
+        graph.put(2, List.of(1));
+        graph.put(3, List.of(0, 4));
+        graph.put(4, List.of(1, 3));
+        int[][] csr = TarjanSCC.toCSR(V, graph);
+
+        int[] sources = {0, 1, 2, 3, 4};
+        int[][] dist = distances(csr[0], csr[1], sources);
+        for (int i = 0; i < sources.length; i++) {
+            System.out.println("Distances from " + sources[i] + ": " + Arrays.toString(dist[i]));
+        }
+        System.out.println("Closeness: " + Arrays.toString(closeness(csr[0], csr[1], sources)));
+    }
+}
@@ -0,0 +1,53 @@
+package graphs;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parallel loop over an index range, used by the multicore graph algorithms
+ * (ParallelSCC, BoruvkasAlgorithm, SSSPUnweightedGraph).
+ * <p>
+ * The range [start, end) is split in halves until the pieces are at most grain long, and
+ * each piece runs body.run(lo, hi) on the pool. The body gets a whole piece rather than one
+ * index, so it can keep per-piece state (counters, buffers) in locals.
+ */
+class ParallelFor extends RecursiveAction {
+
+    /**
+     * Loop body over the index range [lo, hi).
+     */
+    interface RangeBody {
+        void run(int lo, int hi);
+    }
+
+    final int start, end, grain;
+    final RangeBody body;
+
+    ParallelFor(int start, int end, int grain, RangeBody body) {
+        this.start = start;
+        this.end = end;
+        this.grain = grain;
+        this.body = body;
+    }
+
+    protected void compute() {
+        if ((end - start) <= grain) {
+            body.run(start, end);
+        } else {
+            int middle = start + ((end - start) / 2);
+            invokeAll(new ParallelFor(start, middle, grain, body), new ParallelFor(middle, end, grain, body));
+        }
+    }
+
+    /**
+     * Runs body over [lo, hi) on the pool, or directly on the calling thread if the range is
+     * not longer than grain.
+     */
+    static void run(ForkJoinPool pool, int lo, int hi, int grain, RangeBody body) {
+        if (hi - lo <= grain) {
+            body.run(lo, hi);
+        } else {
+            pool.invoke(new ParallelFor(lo, hi, Math.max(1, grain), body));
+        }
+    }
+}
@@ -0,0 +1,390 @@
+package graphs;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Multicore strongly connected components on a CSR graph.
+ * <p>
+ * The algorithm has three phases:
+ * 1. Trim: nodes with no remaining in-edges or no remaining out-edges are SCCs of their own.
+ *    They are peeled off level by level with atomic degree counters, like Kahn's algorithm.
+ * 2. Forward-backward: from a pivot of high degree, a parallel BFS finds everything the pivot
+ *    reaches; a second BFS over the reverse graph, restricted to that set, is exactly the
+ *    pivot's SCC. On real graphs this usually removes the one giant component.
+ * 3. Coloring: every remaining node starts with its own id as color and the maximum color is
+ *    propagated forward until nothing changes. A node whose color is its own id is a root, and
+ *    the nodes of that color which reach it backwards form its SCC. All roots are processed in
+ *    parallel; the phase is repeated (with trimming) until every node has a component.
+ * <p>
+ * The resulting partition is the same as TarjanSCC's, but component ids are in no particular
+ * order.
+ * <p>
+ * Work: O(V + E) per trim and forward-backward pass, O((V + E) * rounds) for coloring
+ * Space complexity: O(V + E) (the reverse graph is built once)
+ */
+public class ParallelSCC {
+
+    private static final int SEQ_THRESHOLD = 2048; // below this a loop runs on the calling thread
+    private static final int UNASSIGNED = -1;
+
+    private final int V;
+    private final int[] offsets, targets;       // forward graph (CSR)
+    private final int[] inOffsets, inTargets;   // reverse graph (CSR)
+    private final ForkJoinPool pool;
+
+    private int[] comp;                         // component id, UNASSIGNED while still active
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    private int[] active;                       // compacted list of active nodes
+    private int numActive;
+
+    // Scratch space shared by the phases
+    private final AtomicIntegerArray inDeg, outDeg, color;
+    private final AtomicIntegerArray mark, mark2; // visited sets; a node is "in" if mark == current stamp
+    private int stamp;
+    private final int[] queue;
+
+    /**
+     * @param offsets CSR offsets (length V + 1)
+     * @param targets CSR targets
+     * @param pool    pool to run on
+     */
+    public ParallelSCC(int[] offsets, int[] targets, ForkJoinPool pool) {
+        this.V = offsets.length - 1;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.pool = pool;
+
+        // Build the reverse graph with a counting sort on the targets
+        inOffsets = new int[V + 1];
+        for (int v : targets) inOffsets[v + 1]++;
+        for (int v = 0; v < V; v++) inOffsets[v + 1] += inOffsets[v];
+        inTargets = new int[targets.length];
+        int[] fill = Arrays.copyOf(inOffsets, V);
+        for (int u = 0; u < V; u++) {
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                inTargets[fill[targets[e]]++] = u;
+            }
+        }
+
+        inDeg = new AtomicIntegerArray(V);
+        outDeg = new AtomicIntegerArray(V);
+        color = new AtomicIntegerArray(V);
+        mark = new AtomicIntegerArray(V);
+        mark2 = new AtomicIntegerArray(V);
+        queue = new int[V];
+    }
+
+    /**
+     * Computes the strongly connected components.
+     *
+     * @param comp output array of length V, filled with the component id of every node
+     * @return number of strongly connected components
+     */
+    public int findSCCs(int[] comp) {
+        this.comp = comp;
+        Arrays.fill(comp, UNASSIGNED);
+        nextId.set(0);
+        active = new int[V];
+        for (int v = 0; v < V; v++) active[v] = v;
+        numActive = V;
+
+        trim();
+        if (numActive > 0) forwardBackward();
+
+        while (numActive > 0) {
+            trim();
+            if (numActive > 0) coloring();
+        }
+        return nextId.get();
+    }
+
+    // ---------------------------------------------------------------------------------------
+    // Phase 1: trimming
+    // ---------------------------------------------------------------------------------------
+
+    private void trim() {
+        final int[] act = active;
+
+        // Degrees restricted to active nodes (self-loops do not keep a node alive)
+        parallelFor(numActive, SEQ_THRESHOLD, (lo, hi) -> {
+            for (int i = lo; i < hi; i++) {
+                int v = act[i];
+                inDeg.set(v, activeDegree(v, inOffsets, inTargets));
+                outDeg.set(v, activeDegree(v, offsets, targets));
+            }
+        });
+
+        int trimStamp = ++stamp;
+        AtomicInteger tail = new AtomicInteger();
+        parallelFor(numActive, SEQ_THRESHOLD, (lo, hi) -> {
+            for (int i = lo; i < hi; i++) {
+                int v = act[i];
+                if ((inDeg.get(v) == 0 || outDeg.get(v) == 0) && claim(mark, v, trimStamp)) {
+                    queue[tail.getAndIncrement()] = v;
+                }
+            }
+        });
+
+        // Peel level by level; queue[lo, hi) is the current level
+        int lo = 0;
+        int hi = tail.get();
+        while (lo < hi) {
+            final int flo = lo, size = hi - lo;
+            final int base = nextId.getAndAdd(size);
+            parallelFor(size, SEQ_THRESHOLD, (a, b) -> {
+                for (int i = a; i < b; i++) comp[queue[flo + i]] = base + i;
+            });
+            parallelFor(size, SEQ_THRESHOLD, (a, b) -> {
+                for (int i = a; i < b; i++) {
+                    int v = queue[flo + i];
+                    for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                        int w = targets[e];
+                        if (w != v && comp[w] == UNASSIGNED && inDeg.decrementAndGet(w) == 0
+                                && claim(mark, w, trimStamp)) {
+                            queue[tail.getAndIncrement()] = w;
+                        }
+                    }
+                    for (int e = inOffsets[v]; e < inOffsets[v + 1]; e++) {
+                        int w = inTargets[e];
+                        if (w != v && comp[w] == UNASSIGNED && outDeg.decrementAndGet(w) == 0
+                                && claim(mark, w, trimStamp)) {
+                            queue[tail.getAndIncrement()] = w;
+                        }
+                    }
+                }
+            });
+            lo = hi;
+            hi = tail.get();
+        }
+
+        compactActive();
+    }
+
+    private int activeDegree(int v, int[] off, int[] tgt) {
+        int degree = 0;
+        for (int e = off[v]; e < off[v + 1]; e++) {
+            int w = tgt[e];
+            if (w != v && comp[w] == UNASSIGNED) degree++;
+        }
+        return degree;
+    }
+
+    // ---------------------------------------------------------------------------------------
+    // Phase 2: forward-backward from a pivot
+    // ---------------------------------------------------------------------------------------
+
+    private void forwardBackward() {
+        // Pivot with the largest in * out degree is most likely in the giant SCC
+        int pivot = active[0];
+        long best = -1;
+        for (int i = 0; i < numActive; i++) {
+            int v = active[i];
+            long score = (long) inDeg.get(v) * outDeg.get(v);
+            if (score > best) {
+                best = score;
+                pivot = v;
+            }
+        }
+
+        int fwStamp = ++stamp;
+        parallelBFS(pivot, offsets, targets, mark, fwStamp, null, 0);
+
+        // Backward search inside the forward set is exactly the pivot's SCC
+        int bwStamp = ++stamp;
+        int size = parallelBFS(pivot, inOffsets, inTargets, mark2, bwStamp, mark, fwStamp);
+
+        int id = nextId.getAndIncrement();
+        parallelFor(size, SEQ_THRESHOLD, (lo, hi) -> {
+            for (int i = lo; i < hi; i++) comp[queue[i]] = id;
+        });
+
+        compactActive();
+    }
+
+    /**
+     * Level-synchronous BFS over active nodes. Every level is split across workers; a node is
+     * claimed with a CAS on its mark and appended to the shared queue.
+     *
+     * @return number of nodes visited; they are stored in queue[0, size)
+     */
+    private int parallelBFS(int src, int[] off, int[] tgt, AtomicIntegerArray visited, int visitStamp,
+                            AtomicIntegerArray filter, int filterStamp) {
+        visited.set(src, visitStamp);
+        queue[0] = src;
+        AtomicInteger tail = new AtomicInteger(1);
+
+        int lo = 0;
+        int hi = 1;
+        while (lo < hi) {
+            final int flo = lo;
+            parallelFor(hi - lo, SEQ_THRESHOLD / 8, (a, b) -> {
+                for (int i = a; i < b; i++) {
+                    int u = queue[flo + i];
+                    for (int e = off[u]; e < off[u + 1]; e++) {
+                        int w = tgt[e];
+                        if (comp[w] == UNASSIGNED
+                                && (filter == null || filter.get(w) == filterStamp)
+                                && claim(visited, w, visitStamp)) {
+                            queue[tail.getAndIncrement()] = w;
+                        }
+                    }
+                }
+            });
+            lo = hi;
+            hi = tail.get();
+        }
+        return hi;
+    }
+
+    // ---------------------------------------------------------------------------------------
+    // Phase 3: coloring
+    // ---------------------------------------------------------------------------------------
+
+    private void coloring() {
+        final int[] act = active;
+
+        parallelFor(numActive, SEQ_THRESHOLD, (lo, hi) -> {
+            for (int i = lo; i < hi; i++) color.set(act[i], act[i]);
+        });
+
+        // Propagate the maximum color forward; only nodes whose color changed are rescanned
+        int[] frontier = Arrays.copyOf(act, numActive);
+        int frontierSize = numActive;
+        int[] nextFrontier = new int[numActive];
+        while (frontierSize > 0) {
+            final int[] cur = frontier, nxt = nextFrontier;
+            final int roundStamp = ++stamp;
+            AtomicInteger tail = new AtomicInteger();
+            parallelFor(frontierSize, SEQ_THRESHOLD / 8, (lo, hi) -> {
+                for (int i = lo; i < hi; i++) {
+                    int u = cur[i];
+                    int c = color.get(u);
+                    for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                        int w = targets[e];
+                        if (comp[w] != UNASSIGNED) continue;
+                        while (true) {
+                            int cw = color.get(w);
+                            if (cw >= c) break;
+                            if (color.compareAndSet(w, cw, c)) {
+                                if (claim(mark, w, roundStamp)) nxt[tail.getAndIncrement()] = w;
+                                break;
+                            }
+                        }
+                    }
+                }
+            });
+            frontierSize = tail.get();
+            frontier = nxt;
+            nextFrontier = cur;
+        }
+
+        // Roots keep their own color
+        int numRoots = 0;
+        int[] roots = new int[numActive];
+        for (int i = 0; i < numActive; i++) {
+            if (color.get(act[i]) == act[i]) roots[numRoots++] = act[i];
+        }
+
+        // Color classes are disjoint, so every root's backward search runs independently
+        final int[] rootList = roots;
+        parallelFor(numRoots, 1, (lo, hi) -> {
+            int[] local = new int[16];
+            for (int i = lo; i < hi; i++) {
+                int root = rootList[i];
+                int id = nextId.getAndIncrement();
+                comp[root] = id;
+                local[0] = root;
+                int head = 0, size = 1;
+                while (head < size) {
+                    int u = local[head++];
+                    for (int e = inOffsets[u]; e < inOffsets[u + 1]; e++) {
+                        int w = inTargets[e];
+                        if (comp[w] == UNASSIGNED && color.get(w) == root) {
+                            comp[w] = id;
+                            if (size == local.length) local = Arrays.copyOf(local, size * 2);
+                            local[size++] = w;
+                        }
+                    }
+                }
+            }
+        });
+
+        compactActive();
+    }
+
+    // ---------------------------------------------------------------------------------------
+    // Helpers
+    // ---------------------------------------------------------------------------------------
+
+    /**
+     * Atomically adds v to the set identified by s. Returns false if it was already there.
+     */
+    private static boolean claim(AtomicIntegerArray set, int v, int s) {
+        int old = set.get(v);
+        return old != s && set.compareAndSet(v, old, s);
+    }
+
+    /**
+     * Drops assigned nodes from the active list, in parallel chunks with a prefix sum.
+     */
+    private void compactActive() {
+        final int n = numActive;
+        final int[] act = active;
+        final int chunks = (n + SEQ_THRESHOLD - 1) / SEQ_THRESHOLD;
+        final int[] counts = new int[chunks + 1];
+
+        parallelFor(chunks, 1, (lo, hi) -> {
+            for (int c = lo; c < hi; c++) {
+                int cnt = 0;
+                for (int i = c * SEQ_THRESHOLD; i < Math.min(n, (c + 1) * SEQ_THRESHOLD); i++) {
+                    if (comp[act[i]] == UNASSIGNED) cnt++;
+                }
+                counts[c + 1] = cnt;
+            }
+        });
+        for (int c = 0; c < chunks; c++) counts[c + 1] += counts[c];
+
+        final int[] compacted = new int[counts[chunks]];
+        parallelFor(chunks, 1, (lo, hi) -> {
+            for (int c = lo; c < hi; c++) {
+                int pos = counts[c];
+                for (int i = c * SEQ_THRESHOLD; i < Math.min(n, (c + 1) * SEQ_THRESHOLD); i++) {
+                    if (comp[act[i]] == UNASSIGNED) compacted[pos++] = act[i];
+                }
+            }
+        });
+        active = compacted;
+        numActive = compacted.length;
+    }
+
+    private void parallelFor(int n, int grain, ParallelFor.RangeBody body) {
+        ParallelFor.run(pool, 0, n, grain, body);
+    }
+
+    public static void main(String[] args) {
+        // Same example as TarjanSCC: SCCs {0}, {1, 2, 3}, {4, 5, 6, 7}
+        int V = 8;
+        HashMap<Integer, List<Integer>> graph = new HashMap<>();
+        graph.put(0, List.of(1));
+        graph.put(1, List.of(3));
+        graph.put(2, List.of(1));
+        graph.put(3, List.of(2, 4));
+        graph.put(4, List.of(5));
+        graph.put(5, List.of(7));
+        graph.put(7, List.of(6));
+        graph.put(6, List.of(4));
+
+        int[][] csr = TarjanSCC.toCSR(V, graph);
+        int[] comp = new int[V];
+        int numSCC = new ParallelSCC(csr[0], csr[1], ForkJoinPool.commonPool()).findSCCs(comp);
+
+        System.out.println("Number of SCCs: " + numSCC); // 3
+        System.out.println("Component of each node: " + Arrays.toString(comp));
+    }
+}
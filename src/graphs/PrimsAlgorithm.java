@@ -1,6 +1,9 @@
 package graphs;
 
+import indexedheap.IndexedMinHeap;
+
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.PriorityQueue;
@@ -32,7 +35,7 @@ public class PrimsAlgorithm {
         this.V = V;
         graph = new HashMap<>();
         taken = new boolean[V];
-        pq = new PriorityQueue<>((a, b) -> a[0] - b[0]); // min-heap by weight
+        pq = new PriorityQueue<>((a, b) -> Integer.compare(a[0], b[0])); // min-heap by weight (no overflow)
 
         // Initialize adjacency list for each vertex
         for (int i = 0; i < V; i++) {
@@ -64,10 +67,10 @@ public class PrimsAlgorithm {
     /**
      * Computes MST cost using Prim's algorithm starting from vertex 0
      *
-     * @return MST cost
+     * @return MST cost (a long, so the sum of int weights cannot overflow)
      */
-    public int prim() {
-        int mstCost = 0;
+    public long prim() {
+        long mstCost = 0;
         process(0); // start from vertex 0
 
         while (!pq.isEmpty()) {
@@ -87,6 +90,108 @@ public class PrimsAlgorithm {
         return mstCost;
     }
 
+    /**
+     * Eager Prim on an edge list, with an indexed heap instead of a queue of edges.
+     * <p>
+     * The heap holds each vertex outside the tree at most once, keyed by the lightest edge
+     * connecting it to the tree. Taking a vertex only lowers the keys of its neighbours
+     * (decreaseKey), so no stale entries pile up and the heap never grows beyond V.
+     * The adjacency is built once as flat arrays (CSR), with edge ids instead of Edge objects.
+     * Disconnected graphs give a minimum spanning forest.
+     * <p>
+     * Time complexity: O(E * log V)
+     * Space complexity: O(V + E)
+     *
+     * @param V      number of vertices
+     * @param edgeU  first endpoint of every undirected edge
+     * @param edgeV  second endpoint of every undirected edge
+     * @param weight weight of every edge
+     * @return ids (indices into edgeU / edgeV / weight) of the MST edges
+     */
+    public static int[] primEager(int V, int[] edgeU, int[] edgeV, long[] weight) {
+        int E = edgeU.length;
+
+        // CSR adjacency: adjEdge[offsets[u] .. offsets[u + 1]) = ids of the edges at u
+        int[] offsets = new int[V + 1];
+        for (int i = 0; i < E; i++) {
+            offsets[edgeU[i] + 1]++;
+            offsets[edgeV[i] + 1]++;
+        }
+        for (int u = 0; u < V; u++) offsets[u + 1] += offsets[u];
+        int[] adjEdge = new int[2 * E];
+        int[] fill = Arrays.copyOf(offsets, V);
+        for (int i = 0; i < E; i++) {
+            adjEdge[fill[edgeU[i]]++] = i;
+            adjEdge[fill[edgeV[i]]++] = i;
+        }
+
+        boolean[] inTree = new boolean[V];
+        int[] bestEdge = new int[V];    // bestEdge[v] = lightest edge from v to the tree
+        IndexedMinHeap heap = new IndexedMinHeap(V);
+        int[] mst = new int[Math.max(0, V - 1)];
+        int size = 0;
+
+        for (int root = 0; root < V; root++) {
+            if (inTree[root]) continue;
+            heap.insert(root, 0);
+            bestEdge[root] = -1;
+            while (!heap.isEmpty()) {
+                int u = heap.pollMin();
+                inTree[u] = true;
+                if (bestEdge[u] != -1) mst[size++] = bestEdge[u];
+
+                for (int i = offsets[u]; i < offsets[u + 1]; i++) {
+                    int e = adjEdge[i];
+                    int v = edgeU[e] == u ? edgeV[e] : edgeU[e];
+                    if (inTree[v]) continue;
+                    if (heap.push(v, weight[e])) bestEdge[v] = e;
+                }
+            }
+        }
+        return Arrays.copyOf(mst, size);
+    }
+
+    /**
+     * Prim for dense graphs given as a weight matrix, e.g. complete graphs of point distances.
+     * <p>
+     * With E close to V^2 a heap only adds overhead: every vertex keeps its distance to the
+     * tree in a plain array, and each step scans that array for the minimum and then relaxes
+     * one matrix row. Both scans are sequential, so this is also cache friendly.
+     * Disconnected graphs give a minimum spanning forest.
+     * <p>
+     * Time complexity: O(V^2)
+     * Space complexity: O(V) besides the matrix
+     *
+     * @param weight symmetric matrix, weight[u][v] = edge weight, Long.MAX_VALUE if no edge
+     * @return parent[v] = the other endpoint of v's MST edge, -1 for the root of every tree
+     */
+    public static int[] primDense(long[][] weight) {
+        int V = weight.length;
+        long[] dist = new long[V];      // dist[v] = lightest edge from v to the tree
+        int[] parent = new int[V];
+        boolean[] inTree = new boolean[V];
+        Arrays.fill(dist, Long.MAX_VALUE);
+        Arrays.fill(parent, -1);
+
+        for (int step = 0; step < V; step++) {
+            // Closest vertex outside the tree; an unreachable one starts a new tree
+            int u = -1;
+            for (int v = 0; v < V; v++) {
+                if (!inTree[v] && (u == -1 || dist[v] < dist[u])) u = v;
+            }
+            inTree[u] = true;
+
+            long[] row = weight[u];
+            for (int v = 0; v < V; v++) {
+                if (!inTree[v] && row[v] < dist[v]) {
+                    dist[v] = row[v];
+                    parent[v] = u;
+                }
+            }
+        }
+        return parent;
+    }
+
     public static void main(String[] args) {
         // Create graph with 4 vertices
         PrimsAlgorithm primGraph = new PrimsAlgorithm(4);
@@ -126,7 +231,32 @@ public class PrimsAlgorithm {
           MST cost = 5 + 4 + 10 = 19
         */
 
-        int mstCost = primGraph.prim();
+        long mstCost = primGraph.prim();
         System.out.println("MST cost = " + mstCost); // Expected output: 19
+
+        // Same graph as an edge list, with weights beyond the int range
+        int[] edgeU = {0, 0, 0, 1, 2};
+        int[] edgeV = {1, 2, 3, 3, 3};
+        long[] weight = {10_000_000_000L, 6_000_000_000L, 5_000_000_000L, 15_000_000_000L, 4_000_000_000L};
+        int[] mst = primEager(4, edgeU, edgeV, weight);
+        long total = 0;
+        for (int e : mst) {
+            System.out.println("MST edge " + edgeU[e] + " - " + edgeV[e] + " (" + weight[e] + ")");
+            total += weight[e];
+        }
+        System.out.println("MST cost = " + total); // Expected output: 19000000000
+
+        // Dense variant: complete graph of squared distances between points on a grid
+        int[][] points = {{0, 0}, {0, 1}, {5, 5}, {5, 6}, {1, 0}};
+        long[][] dist = new long[points.length][points.length];
+        for (int i = 0; i < points.length; i++) {
+            for (int j = 0; j < points.length; j++) {
+                long dx = points[i][0] - points[j][0];
+                long dy = points[i][1] - points[j][1];
+                dist[i][j] = dx * dx + dy * dy;
+            }
+        }
+        System.out.println("Dense MST parents = " + Arrays.toString(primDense(dist)));
+        // Expected output: [-1, 0, 1, 2, 0] (the clusters are joined by 1 - 2, squared length 41)
     }
 }
\ No newline at end of file
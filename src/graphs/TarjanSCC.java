@@ -94,6 +94,171 @@ public class TarjanSCC {
         }
     }
 
+    /**
+     * Converts a HashMap adjacency list into CSR (compressed sparse row) form.
+     * The out-neighbours of u are targets[offsets[u]] .. targets[offsets[u + 1] - 1].
+     *
+     * @param V     number of nodes (0..V-1)
+     * @param graph adjacency list
+     * @return {offsets, targets}
+     */
+    public static int[][] toCSR(int V, HashMap<Integer, List<Integer>> graph) {
+        int[] offsets = new int[V + 1];
+        for (int u = 0; u < V; u++) {
+            offsets[u + 1] = offsets[u] + graph.getOrDefault(u, List.of()).size();
+        }
+        int[] targets = new int[offsets[V]];
+        for (int u = 0; u < V; u++) {
+            int i = offsets[u];
+            for (int v : graph.getOrDefault(u, List.of())) {
+                targets[i++] = v;
+            }
+        }
+        return new int[][]{offsets, targets};
+    }
+
+    /**
+     * Iterative version of Tarjan's algorithm on a CSR graph.
+     * <p>
+     * The recursion is replaced by an explicit int call stack plus a per-node edge cursor,
+     * so long chains cannot overflow the thread stack. Nothing is printed and no objects are
+     * boxed: the only allocations are five int arrays of length V.
+     * <p>
+     * Component ids are assigned in topological order of the condensation, i.e. every edge
+     * u -> v satisfies comp[u] <= comp[v].
+     * <p>
+     * Time complexity: O(V + E)
+     * Space complexity: O(V)
+     *
+     * @param offsets CSR offsets (length V + 1)
+     * @param targets CSR targets
+     * @param comp    output array of length V, filled with the component id of every node
+     * @return number of strongly connected components
+     */
+    public static int iterativeTarjan(int[] offsets, int[] targets, int[] comp) {
+        int V = offsets.length - 1;
+        int[] dfsNum = new int[V];
+        int[] dfsLow = new int[V];
+        int[] stack = new int[V];      // Tarjan stack
+        int[] callStack = new int[V];  // replaces the recursion
+        int[] edgePos = new int[V];    // next edge to scan for every node on the call stack
+
+        Arrays.fill(dfsNum, -1);
+        Arrays.fill(comp, -1);         // -1 + visited means "still on the Tarjan stack"
+        int dfsCounter = 0;
+        int numSCC = 0;
+        int sp = 0;
+
+        for (int root = 0; root < V; root++) {
+            if (dfsNum[root] != -1) continue;
+
+            int csp = 0;
+            dfsNum[root] = dfsLow[root] = dfsCounter++;
+            stack[sp++] = root;
+            edgePos[root] = offsets[root];
+            callStack[csp++] = root;
+
+            while (csp > 0) {
+                int u = callStack[csp - 1];
+
+                if (edgePos[u] < offsets[u + 1]) {
+                    int v = targets[edgePos[u]++];
+                    if (dfsNum[v] == -1) {                 // "recursive call" on v
+                        dfsNum[v] = dfsLow[v] = dfsCounter++;
+                        stack[sp++] = v;
+                        edgePos[v] = offsets[v];
+                        callStack[csp++] = v;
+                    } else if (comp[v] == -1) {            // v is on the Tarjan stack
+                        dfsLow[u] = Math.min(dfsLow[u], dfsNum[v]);
+                    }
+                    continue;
+                }
+
+                // All edges of u scanned: "return" from u
+                csp--;
+                if (dfsLow[u] == dfsNum[u]) {
+                    int v;
+                    do {
+                        v = stack[--sp];
+                        comp[v] = numSCC;
+                    } while (v != u);
+                    numSCC++;
+                }
+                if (csp > 0) {
+                    int parent = callStack[csp - 1];
+                    dfsLow[parent] = Math.min(dfsLow[parent], dfsLow[u]);
+                }
+            }
+        }
+
+        // Tarjan completes sink components first; flip the ids so they follow topological order
+        for (int v = 0; v < V; v++) {
+            comp[v] = numSCC - 1 - comp[v];
+        }
+        return numSCC;
+    }
+
+    /**
+     * Builds the condensation DAG (one node per SCC, duplicate edges removed) in CSR form.
+     * <p>
+     * Time complexity: O(V + E)
+     * Space complexity: O(V + number of condensation edges)
+     *
+     * @param offsets CSR offsets of the original graph
+     * @param targets CSR targets of the original graph
+     * @param comp    component ids from iterativeTarjan
+     * @param numSCC  number of components from iterativeTarjan
+     * @return {offsets, targets} of the condensation DAG
+     */
+    public static int[][] condensation(int[] offsets, int[] targets, int[] comp, int numSCC) {
+        int V = offsets.length - 1;
+
+        // Counting sort of the nodes by component
+        int[] start = new int[numSCC + 1];
+        for (int v = 0; v < V; v++) start[comp[v] + 1]++;
+        for (int c = 0; c < numSCC; c++) start[c + 1] += start[c];
+        int[] members = new int[V];
+        int[] fill = Arrays.copyOf(start, numSCC);
+        for (int v = 0; v < V; v++) members[fill[comp[v]]++] = v;
+
+        int[] mark = new int[numSCC];  // mark[d] == c  <=>  edge c -> d already seen
+        Arrays.fill(mark, -1);
+
+        // First pass: count distinct out-edges per component
+        int[] cOffsets = new int[numSCC + 1];
+        for (int c = 0; c < numSCC; c++) {
+            for (int i = start[c]; i < start[c + 1]; i++) {
+                int u = members[i];
+                for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    int d = comp[targets[e]];
+                    if (d != c && mark[d] != c) {
+                        mark[d] = c;
+                        cOffsets[c + 1]++;
+                    }
+                }
+            }
+        }
+        for (int c = 0; c < numSCC; c++) cOffsets[c + 1] += cOffsets[c];
+
+        // Second pass: fill them in
+        Arrays.fill(mark, -1);
+        int[] cTargets = new int[cOffsets[numSCC]];
+        int pos = 0;
+        for (int c = 0; c < numSCC; c++) {
+            for (int i = start[c]; i < start[c + 1]; i++) {
+                int u = members[i];
+                for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    int d = comp[targets[e]];
+                    if (d != c && mark[d] != c) {
+                        mark[d] = c;
+                        cTargets[pos++] = d;
+                    }
+                }
+            }
+        }
+        return new int[][]{cOffsets, cTargets};
+    }
+
     /**
      * Example usage with the updated graph.
      */
@@ -152,5 +317,20 @@ public class TarjanSCC {
 
         TarjanSCC tarjan = new TarjanSCC(V, graph);
         tarjan.runTarjan();
+
+        // Iterative version: component ids + condensation DAG
+        int[][] csr = toCSR(V, graph);
+        int[] comp = new int[V];
+        int numSCC = iterativeTarjan(csr[0], csr[1], comp);
+        System.out.println("Iterative: " + numSCC + " SCCs, comp = " + Arrays.toString(comp));
+
+        int[][] dag = condensation(csr[0], csr[1], comp, numSCC);
+        for (int c = 0; c < numSCC; c++) {
+            System.out.print("Component " + c + " ->");
+            for (int i = dag[0][c]; i < dag[0][c + 1]; i++) {
+                System.out.print(" " + dag[1][i]);
+            }
+            System.out.println();
+        }
     }
 }
@@ -0,0 +1,189 @@
+package graphs;
+
+import java.util.Arrays;
+
+/**
+ * Single-source shortest paths for graphs whose weights are small non-negative integers,
+ * sitting between SSSPUnweightedGraph (all weights 1) and DijkstrasAlgorithm (any weights).
+ * <p>
+ * - zeroOneBFS: weights 0 or 1. A deque replaces Dijkstra's heap: a vertex reached over a
+ *   0-edge goes to the front (same distance), over a 1-edge to the back (distance + 1).
+ * - dialBFS: weights 0..C (Dial's algorithm). Pending tentative distances never span more
+ *   than C + 1 values, so C + 1 circular buckets indexed by dist mod (C + 1) replace the heap.
+ * <p>
+ * Both work on a CSR graph with an int weight per edge and allocate only primitive arrays.
+ * <p>
+ * Node IDs are assumed to be in the range 0..V-1.
+ */
+public class ZeroOneBFS {
+
+    /**
+     * Shortest distances (Long.MAX_VALUE if unreachable) and shortest path tree parents (-1 for
+     * the source and unreachable vertices).
+     */
+    public static class Paths {
+        public final long[] dist;
+        public final int[] parent;
+
+        Paths(long[] dist, int[] parent) {
+            this.dist = dist;
+            this.parent = parent;
+        }
+    }
+
+    /**
+     * 0-1 BFS.
+     * <p>
+     * Time complexity: O(V + E)
+     * Space complexity: O(V + E) (a vertex is pushed at most once per incoming edge)
+     *
+     * @param offsets CSR offsets (length V + 1)
+     * @param targets CSR targets
+     * @param weights weight of every edge, 0 or 1
+     * @param src     source vertex
+     * @throws IllegalArgumentException if a weight is not 0 or 1 (a vertex would be settled
+     *                                  before its final distance is known)
+     */
+    public static Paths zeroOneBFS(int[] offsets, int[] targets, int[] weights, int src) {
+        int V = offsets.length - 1;
+        for (int e = 0; e < offsets[V]; e++) {
+            if (weights[e] != 0 && weights[e] != 1) {
+                throw new IllegalArgumentException("Edge weight " + weights[e] + " is not 0 or 1");
+            }
+        }
+        long[] dist = new long[V];
+        int[] parent = new int[V];
+        boolean[] done = new boolean[V];
+        Arrays.fill(dist, Long.MAX_VALUE);
+        Arrays.fill(parent, -1);
+
+        // Circular int deque: elements are deque[head], deque[head + 1], ... (mod capacity)
+        int[] deque = new int[16];
+        int head = 0, size = 1;
+        deque[0] = src;
+        dist[src] = 0;
+
+        while (size > 0) {
+            int u = deque[head];
+            head = (head + 1) & (deque.length - 1);
+            size--;
+            if (done[u]) continue; // stale copy, u was already settled at a smaller distance
+            done[u] = true;
+
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int v = targets[e];
+                int w = weights[e];
+                if (dist[u] + w < dist[v]) {
+                    dist[v] = dist[u] + w;
+                    parent[v] = u;
+
+                    if (size == deque.length) {
+                        // Grow: unroll the circular buffer into a twice larger one
+                        int[] bigger = new int[deque.length * 2];
+                        for (int i = 0; i < size; i++) bigger[i] = deque[(head + i) & (deque.length - 1)];
+                        deque = bigger;
+                        head = 0;
+                    }
+                    if (w == 0) {
+                        head = (head - 1) & (deque.length - 1);
+                        deque[head] = v;
+                    } else {
+                        deque[(head + size) & (deque.length - 1)] = v;
+                    }
+                    size++;
+                }
+            }
+        }
+
+        return new Paths(dist, parent);
+    }
+
+    /**
+     * Dial's algorithm with circular buckets.
+     * <p>
+     * Time complexity: O(V * C + E)  (the bucket cursor advances at most once per distance value)
+     * Space complexity: O(V + E + C)
+     *
+     * @param offsets   CSR offsets (length V + 1)
+     * @param targets   CSR targets
+     * @param weights   weight of every edge, in 0..maxWeight
+     * @param src       source vertex
+     * @param maxWeight largest edge weight C
+     * @throws IllegalArgumentException if a weight is outside 0..maxWeight (the circular buckets
+     *                                  would file the vertex under a smaller distance)
+     */
+    public static Paths dialBFS(int[] offsets, int[] targets, int[] weights, int src, int maxWeight) {
+        int V = offsets.length - 1;
+        for (int e = 0; e < offsets[V]; e++) {
+            if (weights[e] < 0 || weights[e] > maxWeight) {
+                throw new IllegalArgumentException("Edge weight " + weights[e] + " is outside 0.." + maxWeight);
+            }
+        }
+        int numBuckets = maxWeight + 1;
+        long[] dist = new long[V];
+        int[] parent = new int[V];
+        Arrays.fill(dist, Long.MAX_VALUE);
+        Arrays.fill(parent, -1);
+
+        int[][] bucket = new int[numBuckets][];
+        int[] bucketSize = new int[numBuckets];
+        for (int b = 0; b < numBuckets; b++) bucket[b] = new int[4];
+
+        dist[src] = 0;
+        bucket[0][bucketSize[0]++] = src;
+        long pending = 1;
+
+        for (long d = 0; pending > 0; d++) {
+            int b = (int) (d % numBuckets);
+
+            // Relaxing a 0-edge appends to the bucket being drained, so loop until it is empty
+            while (bucketSize[b] > 0) {
+                int u = bucket[b][--bucketSize[b]];
+                pending--;
+                if (dist[u] != d) continue; // stale entry
+
+                for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    int v = targets[e];
+                    long nd = d + weights[e];
+                    if (nd < dist[v]) {
+                        dist[v] = nd;
+                        parent[v] = u;
+                        int nb = (int) (nd % numBuckets);
+                        if (bucketSize[nb] == bucket[nb].length) {
+                            bucket[nb] = Arrays.copyOf(bucket[nb], bucketSize[nb] * 2);
+                        }
+                        bucket[nb][bucketSize[nb]++] = v;
+                        pending++;
+                    }
+                }
+            }
+        }
+
+        return new Paths(dist, parent);
+    }
+
+    public static void main(String[] args) {
+        /*
+            Transit example, 0 = free transfer, 1 = paid ride:
+
+                0 --1--> 1 --0--> 2
+                |                 ^
+                0                 1
+                |                 |
+                v                 |
+                3 --0--> 4 -------+
+         */
+        int[] offsets = {0, 2, 3, 3, 4, 5};
+        int[] targets = {1, 3, 2, 4, 2};
+        int[] weights = {1, 0, 0, 0, 1};
+
+        Paths p = zeroOneBFS(offsets, targets, weights, 0);
+        System.out.println("0-1 BFS dist:   " + Arrays.toString(p.dist));   // [0, 1, 1, 0, 0]
+        System.out.println("0-1 BFS parent: " + Arrays.toString(p.parent)); // [-1, 0, 1 or 4, 0, 3]
+
+        // Same shape with weights up to 3
+        int[] weights3 = {3, 1, 0, 2, 1};
+        Paths q = dialBFS(offsets, targets, weights3, 0, 3);
+        System.out.println("Dial dist:      " + Arrays.toString(q.dist));   // [0, 3, 3, 1, 3]
+    }
+}
@@ -0,0 +1,82 @@
+package graphs.maxflow;
+
+import java.util.Arrays;
+
+/**
+ * Forward-star storage of a residual graph, shared by ResidualGraph and MinCostFlow.
+ * <p>
+ * Edges live in flat arrays: edge e and its reverse edge e ^ 1 sit side by side, the reverse
+ * starts with capacity 0, so the flow on e is always capacity[e ^ 1]. The edges out of u are
+ * head[u], next[head[u]], ... until -1. Anything else per edge (e.g. costs) is kept by the
+ * subclass in arrays indexed the same way.
+ * <p>
+ * Node IDs are assumed to be in the range 0..V-1.
+ */
+abstract class EdgeStore {
+
+    final int V;            // number of vertices
+    final int[] head;       // head[u] = first edge out of u, -1 if none
+    int[] next;             // next[e] = next edge out of the same vertex
+    int[] to;               // to[e] = head of edge e
+    long[] capacity;        // capacity[e] = residual capacity of edge e
+    int edgeCount;
+
+    EdgeStore(int V) {
+        this.V = V;
+        head = new int[V];
+        Arrays.fill(head, -1);
+        next = new int[16];
+        to = new int[16];
+        capacity = new long[16];
+    }
+
+    /**
+     * Copies the edges of other and their current flow; the copy is independent of other.
+     */
+    EdgeStore(EdgeStore other) {
+        this(other.V);
+        System.arraycopy(other.head, 0, head, 0, V);
+        next = other.next.clone();
+        to = other.to.clone();
+        capacity = other.capacity.clone();
+        edgeCount = other.edgeCount;
+    }
+
+    /**
+     * Adds a directed edge from u to v with given capacity.
+     * Also creates a reverse edge with capacity 0 for residual graph.
+     *
+     * @param u source vertex
+     * @param v destination vertex
+     * @param capacity edge capacity
+     * @return id of the edge; its reverse edge is id ^ 1
+     */
+    public int addEdge(int u, int v, long capacity) {
+        if (edgeCount + 2 > to.length) {
+            int newLength = to.length * 2;
+            next = Arrays.copyOf(next, newLength);
+            to = Arrays.copyOf(to, newLength);
+            this.capacity = Arrays.copyOf(this.capacity, newLength);
+        }
+        int id = edgeCount;
+        link(id, u, v, capacity);
+        link(id + 1, v, u, 0);
+        edgeCount += 2;
+        return id;
+    }
+
+    private void link(int e, int u, int v, long cap) {
+        to[e] = v;
+        capacity[e] = cap;
+        next[e] = head[u];
+        head[u] = e;
+    }
+
+    /**
+     * @param edgeId id returned by addEdge
+     * @return flow currently on the edge
+     */
+    public long flow(int edgeId) {
+        return capacity[edgeId ^ 1];
+    }
+}
@@ -1,11 +1,6 @@
 package graphs.maxflow;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Queue;
 
 /**
  * Edmonds-Karp algorithm for computing maximum flow in a directed graph.
@@ -24,160 +19,104 @@ import java.util.Queue;
  * Time complexity: O(V * E^2) - guaranteed polynomial time
  * Space complexity: O(V + E)
  */
-public class EdmondsKarp {
+public class EdmondsKarp extends ResidualGraph {
 
-    /**
-     * Edge class for residual graph.
-     * Each edge stores its residual capacity.
-     */
-    static class Edge {
-        int to;
-        long capacity;
-        int reverseIndex; // index of reverse edge in adjacency list
-
-        Edge(int to, long capacity, int reverseIndex) {
-            this.to = to;
-            this.capacity = capacity;
-            this.reverseIndex = reverseIndex;
-        }
-    }
-
-    private final int V; // number of vertices
-    private final HashMap<Integer, List<Edge>> residualGraph; // residual graph as adjacency list
+    // BFS work arrays, reused by every phase
+    private final int[] parentEdge;  // parentEdge[v] = edge used to reach v
+    private final long[] bottleneck; // bottleneck[v] = min residual capacity on the path to v
+    private final int[] queue;
+    private final int[] visited;     // visited[v] == stamp <=> v reached in the current BFS
+    private int stamp;
 
     /**
      * Constructor initializes the residual graph.
+     * Edge e and its reverse edge e ^ 1 are stored side by side in flat arrays.
      * 
      * @param V number of vertices
      */
     public EdmondsKarp(int V) {
-        this.V = V;
-        this.residualGraph = new HashMap<>();
-        for (int i = 0; i < V; i++) {
-            residualGraph.put(i, new ArrayList<>());
-        }
-    }
+        super(V);
 
-    /**
-     * Adds a directed edge from u to v with given capacity.
-     * Also creates a reverse edge with capacity 0 for residual graph.
-     * 
-     * @param u source vertex
-     * @param v destination vertex
-     * @param capacity edge capacity
-     */
-    public void addEdge(int u, int v, long capacity) {
-        // Ensure both vertices exist in the graph
-        residualGraph.putIfAbsent(u, new ArrayList<>());
-        residualGraph.putIfAbsent(v, new ArrayList<>());
-        
-        // Forward edge: u -> v with capacity
-        int forwardIndex = residualGraph.get(u).size();
-        // Backward edge: v -> u with capacity 0 (will be updated during augmentation)
-        int backwardIndex = residualGraph.get(v).size();
-
-        residualGraph.get(u).add(new Edge(v, capacity, backwardIndex));
-        residualGraph.get(v).add(new Edge(u, 0, forwardIndex));
+        parentEdge = new int[V];
+        bottleneck = new long[V];
+        queue = new int[V];
+        visited = new int[V];
     }
 
     /**
      * Augments flow along the augmenting path from s to t.
+     * Follows the recorded parent edges, so it costs O(path length) and uses exactly the
+     * parallel edge that BFS found.
      * 
      * @param s source vertex
      * @param t sink vertex
-     * @param parent parent array from BFS
      * @param flow amount of flow to augment
      */
-    private void augmentPath(int s, int t, int[] parent, long flow) {
-        int v = t;
-        
+    private void augmentPath(int s, int t, long flow) {
         // Traverse path backwards from t to s
-        while (v != s) {
-            int u = parent[v];
-            
-            // Find the edge from u to v in residual graph
-            List<Edge> edges = residualGraph.getOrDefault(u, new ArrayList<>());
-            for (Edge e : edges) {
-                if (e.to == v) {
-                    // Decrease capacity of forward edge (u -> v) by flow
-                    e.capacity -= flow;
-                    
-                    // Increase capacity of backward edge (v -> u) by flow
-                    List<Edge> reverseEdges = residualGraph.getOrDefault(v, new ArrayList<>());
-                    Edge reverseEdge = reverseEdges.get(e.reverseIndex);
-                    reverseEdge.capacity += flow;
-                    
-                    break;
+        for (int v = t; v != s; v = to[parentEdge[v] ^ 1]) {
+            int e = parentEdge[v];
+            capacity[e] -= flow;     // forward edge u -> v
+            capacity[e ^ 1] += flow; // backward edge v -> u
+        }
+    }
+
+    /**
+     * BFS for a shortest augmenting path. Allocation-free: visited marks are invalidated by
+     * bumping the stamp instead of clearing the array.
+     *
+     * @return bottleneck of the path found, 0 if t is unreachable
+     */
+    private long bfs(int s, int t) {
+        if (++stamp == Integer.MAX_VALUE) {
+            Arrays.fill(visited, 0);
+            stamp = 1;
+        }
+        int qHead = 0, qTail = 0;
+        queue[qTail++] = s;
+        visited[s] = stamp;
+        bottleneck[s] = Long.MAX_VALUE;
+
+        while (qHead < qTail) {
+            int u = queue[qHead++];
+            for (int e = head[u]; e != -1; e = next[e]) {
+                int v = to[e];
+                // If v is unvisited and there's residual capacity
+                if (visited[v] != stamp && capacity[e] > 0) {
+                    visited[v] = stamp;
+                    parentEdge[v] = e;
+                    bottleneck[v] = Math.min(bottleneck[u], capacity[e]);
+                    if (v == t) {
+                        return bottleneck[t];
+                    }
+                    queue[qTail++] = v;
                 }
             }
-            
-            v = u;
         }
+        return 0;
     }
 
     /**
      * Computes the maximum flow from source s to sink t using Edmonds-Karp algorithm.
      * Uses BFS to find augmenting paths, guaranteeing polynomial time complexity.
+     * Resumes from the current flow (see ResidualGraph.setCapacity).
      * 
      * @param s source vertex
      * @param t sink vertex
      * @return maximum flow value
      */
+    @Override
     public long maxFlow(int s, int t) {
-        long maxFlow = 0;
+        if (s == t) return 0;
+        startFlow(s, t);
 
         // While there exists an augmenting path p from s to t
-        while (true) {
-            // Find augmenting path using BFS
-            int[] parent = new int[V];
-            long[] bottleneck = new long[V];
-            Arrays.fill(parent, -1);
-            Arrays.fill(bottleneck, 0);
-
-            Queue<Integer> queue = new LinkedList<>();
-            queue.offer(s);
-            parent[s] = s;
-            bottleneck[s] = Long.MAX_VALUE;
-
-            boolean foundPath = false;
-            while (!queue.isEmpty()) {
-                int u = queue.poll();
-
-                List<Edge> edges = residualGraph.getOrDefault(u, new ArrayList<>());
-                for (Edge e : edges) {
-                    int v = e.to;
-                    // If v is unvisited and there's residual capacity
-                    if (parent[v] == -1 && e.capacity > 0) {
-                        parent[v] = u;
-                        bottleneck[v] = Math.min(bottleneck[u], e.capacity);
-                        
-                        if (v == t) {
-                            // Found augmenting path
-                            foundPath = true;
-                            long flow = bottleneck[t];
-                            
-                            // Augment flow along the path
-                            augmentPath(s, t, parent, flow);
-                            
-                            // Increase max flow
-                            maxFlow += flow;
-                            break;
-                        }
-                        
-                        queue.offer(v);
-                    }
-                }
-                
-                if (foundPath) break;
-            }
-
-            // No augmenting path found, algorithm terminates
-            if (!foundPath) {
-                break;
-            }
+        long flow;
+        while ((flow = bfs(s, t)) > 0) {
+            augmentPath(s, t, flow);
         }
 
-        return maxFlow;
+        return flowValue(s);
     }
 
     /**
@@ -212,13 +151,21 @@ public class EdmondsKarp {
         ek2.addEdge(2, 4, 14);  // 2 -> 4: capacity 14
         ek2.addEdge(3, 2, 9);   // 3 -> 2: capacity 9
         ek2.addEdge(3, 5, 20);   // 3 -> t: capacity 20
-        ek2.addEdge(4, 3, 7);   // 4 -> 3: capacity 7
+        int e43 = ek2.addEdge(4, 3, 7);   // 4 -> 3: capacity 7
         ek2.addEdge(4, 5, 4);   // 4 -> t: capacity 4
         
         long maxFlow2 = ek2.maxFlow(0, 5);
         System.out.println("Max flow from 0 to 5: " + maxFlow2);
         System.out.println("Expected: 23\n");
 
+        // Min cut of the same network, then a what-if without restarting from zero
+        System.out.println("Min cut source side: " + Arrays.toString(ek2.minCutSourceSide()));
+        System.out.println("Min cut edges: " + Arrays.toString(ek2.minCutEdges()));
+        System.out.println("Expected: [6, 16, 18] (1 -> 3, 4 -> 3, 4 -> 5: 12 + 7 + 4 = 23)");
+        ek2.setCapacity(e43, 2);
+        System.out.println("Max flow with 4 -> 3 reduced to 2: " + ek2.maxFlow(0, 5));
+        System.out.println("Expected: 18\n");
+
         // Example 3: Simple path
         System.out.println("Example 3: Simple path");
         EdmondsKarp ek3 = new EdmondsKarp(3);
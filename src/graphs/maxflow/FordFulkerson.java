@@ -1,9 +1,6 @@
 package graphs.maxflow;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.List;
 
 /**
  * Ford-Fulkerson's algorithm for computing maximum flow in a directed graph.
@@ -18,93 +15,84 @@ import java.util.List;
  *    - Add f to max flow
  * 3. Return max flow
  * 
- * Time complexity: O(E * max_flow) in worst case
+ * Capacity-scaling mode (maxFlowScaling): only residual edges with capacity >= delta may be
+ * used, starting with delta = largest power of two <= max capacity and halving delta whenever
+ * no such path is left. Each delta phase augments at most 2E times, so the running time no
+ * longer depends on the flow value.
+ * 
+ * The DFS is iterative (explicit stack), so long paths cannot overflow the call stack.
+ * 
+ * Time complexity: O(E * max_flow) in worst case, O(E^2 * log U) with capacity scaling
+ *                  (U = max capacity)
  * Space complexity: O(V + E)
  */
-public class FordFulkerson {
+public class FordFulkerson extends ResidualGraph {
 
-    /**
-     * Edge class for residual graph.
-     * Each edge stores its residual capacity.
-     */
-    static class Edge {
-        int to;
-        long capacity;
-        int reverseIndex; // index of reverse edge in adjacency list
-
-        Edge(int to, long capacity, int reverseIndex) {
-            this.to = to;
-            this.capacity = capacity;
-            this.reverseIndex = reverseIndex;
-        }
-    }
-
-    private final int V; // number of vertices
-    private final HashMap<Integer, List<Edge>> residualGraph; // residual graph as adjacency list
+    // DFS work arrays, reused by every phase
+    private final int[] parentEdge;  // parentEdge[v] = edge used to reach v
+    private final int[] visited;     // visited[v] == stamp <=> v reached in the current DFS
+    private final int[] stack, arc;  // DFS stack and next edge to try for every vertex on it
+    private int stamp;
 
     /**
      * Constructor initializes the residual graph.
+     * Edge e and its reverse edge e ^ 1 are stored side by side in flat arrays.
      * 
      * @param V number of vertices
      */
     public FordFulkerson(int V) {
-        this.V = V;
-        this.residualGraph = new HashMap<>();
-        for (int i = 0; i < V; i++) {
-            residualGraph.put(i, new ArrayList<>());
-        }
-    }
+        super(V);
 
-    /**
-     * Adds a directed edge from u to v with given capacity.
-     * Also creates a reverse edge with capacity 0 for residual graph.
-     * 
-     * @param u source vertex
-     * @param v destination vertex
-     * @param capacity edge capacity
-     */
-    public void addEdge(int u, int v, long capacity) {
-        // Ensure both vertices exist in the graph
-        residualGraph.putIfAbsent(u, new ArrayList<>());
-        residualGraph.putIfAbsent(v, new ArrayList<>());
-        
-        // Forward edge: u -> v with capacity
-        int forwardIndex = residualGraph.get(u).size();
-        // Backward edge: v -> u with capacity 0 (will be updated during augmentation)
-        int backwardIndex = residualGraph.get(v).size();
-
-        residualGraph.get(u).add(new Edge(v, capacity, backwardIndex));
-        residualGraph.get(v).add(new Edge(u, 0, forwardIndex));
+        parentEdge = new int[V];
+        visited = new int[V];
+        stack = new int[V];
+        arc = new int[V];
     }
 
     /**
-     * DFS helper to find an augmenting path from u to t.
-     * Stores the path in parent array and returns the bottleneck capacity.
+     * Iterative DFS for an augmenting path from s to t using only residual edges with
+     * capacity >= delta. Records the edge used to reach every vertex in parentEdge.
      * 
-     * @param u current vertex
+     * @param s source vertex
      * @param t sink vertex
-     * @param visited visited array
-     * @param parent parent array to store path
-     * @param minCapacity minimum capacity found so far
+     * @param delta smallest usable residual capacity (1 = any positive capacity)
      * @return minimum capacity along the path if path exists, 0 otherwise
      */
-    private long dfs(int u, int t, boolean[] visited, int[] parent, long minCapacity) {
-        if (u == t) {
-            return minCapacity;
+    private long dfs(int s, int t, long delta) {
+        // New visited marks without clearing the array
+        if (++stamp == Integer.MAX_VALUE) {
+            Arrays.fill(visited, 0);
+            stamp = 1;
         }
 
-        visited[u] = true;
-
-        List<Edge> edges = residualGraph.getOrDefault(u, new ArrayList<>());
-        for (Edge e : edges) {
-            int v = e.to;
-            if (!visited[v] && e.capacity > 0) {
-                parent[v] = u;
-                long flow = dfs(v, t, visited, parent, Math.min(minCapacity, e.capacity));
-                if (flow > 0) {
-                    return flow;
+        int top = 0;
+        stack[top++] = s;
+        visited[s] = stamp;
+        arc[s] = head[s];
+
+        while (top > 0) {
+            int u = stack[top - 1];
+            if (u == t) {
+                long minCapacity = Long.MAX_VALUE;
+                for (int v = t; v != s; v = to[parentEdge[v] ^ 1]) {
+                    minCapacity = Math.min(minCapacity, capacity[parentEdge[v]]);
                 }
+                return minCapacity;
+            }
+
+            int e = arc[u];
+            while (e != -1 && (visited[to[e]] == stamp || capacity[e] < delta)) e = next[e];
+            if (e == -1) {
+                top--; // dead end, backtrack
+                continue;
             }
+            arc[u] = next[e];
+
+            int v = to[e];
+            visited[v] = stamp;
+            parentEdge[v] = e;
+            arc[v] = head[v];
+            stack[top++] = v;
         }
 
         return 0;
@@ -112,57 +100,39 @@ public class FordFulkerson {
 
     /**
      * Augments flow along the augmenting path from s to t.
+     * Follows the recorded parent edges, so it costs O(path length) and uses exactly the
+     * parallel edge that DFS found.
      * 
      * @param s source vertex
      * @param t sink vertex
-     * @param parent parent array from DFS
      * @param flow amount of flow to augment
      */
-    private void augmentPath(int s, int t, int[] parent, long flow) {
-        int v = t;
-        
+    private void augmentPath(int s, int t, long flow) {
         // Traverse path backwards from t to s
-        while (v != s) {
-            int u = parent[v];
-            
-            // Find the edge from u to v in residual graph
-            List<Edge> edges = residualGraph.getOrDefault(u, new ArrayList<>());
-            for (Edge e : edges) {
-                if (e.to == v) {
-                    // Decrease capacity of forward edge (u -> v) by flow
-                    e.capacity -= flow;
-                    
-                    // Increase capacity of backward edge (v -> u) by flow
-                    List<Edge> reverseEdges = residualGraph.getOrDefault(v, new ArrayList<>());
-                    Edge reverseEdge = reverseEdges.get(e.reverseIndex);
-                    reverseEdge.capacity += flow;
-                    break;
-                }
-            }
-            
-            v = u;
+        for (int v = t; v != s; v = to[parentEdge[v] ^ 1]) {
+            int e = parentEdge[v];
+            capacity[e] -= flow;     // forward edge u -> v
+            capacity[e ^ 1] += flow; // backward edge v -> u
         }
     }
 
     /**
      * Computes the maximum flow from source s to sink t using Ford-Fulkerson method.
      * Uses DFS to find augmenting paths.
+     * Resumes from the current flow (see ResidualGraph.setCapacity).
      * 
      * @param s source vertex
      * @param t sink vertex
      * @return maximum flow value
      */
+    @Override
     public long maxFlow(int s, int t) {
-        long maxFlow = 0;
+        if (s == t) return 0;
+        startFlow(s, t);
 
         // While there exists an augmenting path p from s to t
         while (true) {
-            boolean[] visited = new boolean[V];
-            int[] parent = new int[V];
-            Arrays.fill(parent, -1);
-            parent[s] = s;
-            
-            long flow = dfs(s, t, visited, parent, Long.MAX_VALUE);
+            long flow = dfs(s, t, 1);
 
             if (flow == 0) {
                 // No augmenting path found, algorithm terminates
@@ -170,11 +140,35 @@ public class FordFulkerson {
             }
 
             // Augment flow along the path
-            augmentPath(s, t, parent, flow);
-            maxFlow += flow;
+            augmentPath(s, t, flow);
+        }
+
+        return flowValue(s);
+    }
+
+    /**
+     * Computes the maximum flow from source s to sink t using Ford-Fulkerson with capacity
+     * scaling. Resumes from the current flow (see ResidualGraph.setCapacity).
+     * 
+     * @param s source vertex
+     * @param t sink vertex
+     * @return maximum flow value
+     */
+    public long maxFlowScaling(int s, int t) {
+        if (s == t) return 0;
+        startFlow(s, t);
+
+        long maxCapacity = 0;
+        for (int e = 0; e < edgeCount; e++) maxCapacity = Math.max(maxCapacity, capacity[e]);
+
+        for (long delta = Long.highestOneBit(maxCapacity); delta > 0; delta >>= 1) {
+            long flow;
+            while ((flow = dfs(s, t, delta)) > 0) {
+                augmentPath(s, t, flow);
+            }
         }
 
-        return maxFlow;
+        return flowValue(s);
     }
 
     /**
@@ -225,5 +219,20 @@ public class FordFulkerson {
         long maxFlow3 = ff3.maxFlow(0, 2);
         System.out.println("Max flow from 0 to 2: " + maxFlow3);
         System.out.println("Expected: 3\n");
+
+        // Example 4: Large capacities, where plain DFS may take ~10^12 augmentations
+        //   0 -> 1, 0 -> 2, 1 -> 3, 2 -> 3 with capacity 10^12, plus 1 -> 2 with capacity 1
+        System.out.println("Example 4: Capacity scaling");
+        FordFulkerson ff4 = new FordFulkerson(4);
+        long big = 1_000_000_000_000L;
+        ff4.addEdge(0, 1, big);
+        ff4.addEdge(0, 2, big);
+        ff4.addEdge(1, 2, 1);
+        ff4.addEdge(1, 3, big);
+        ff4.addEdge(2, 3, big);
+
+        long maxFlow4 = ff4.maxFlowScaling(0, 3);
+        System.out.println("Max flow from 0 to 3: " + maxFlow4);
+        System.out.println("Expected: 2000000000000\n");
     }
 }
\ No newline at end of file
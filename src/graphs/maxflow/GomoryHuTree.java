@@ -0,0 +1,258 @@
+package graphs.maxflow;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Gomory-Hu tree of an undirected capacitated graph, built with Gusfield's algorithm.
+ * For every pair u, v the minimum u-v cut equals the smallest edge weight on the tree path
+ * between u and v, so all pairwise min cuts come from V - 1 max-flow computations.
+ *
+ * Algorithm (Gusfield):
+ * 1. p[i] = 0 for every vertex i
+ * 2. For s = 1 .. V-1, with t = p[s]:
+ *    - compute a min s-t cut (S = source side) with Dinic, weight[s] = its value
+ *    - for every i != s with p[i] == t and i in S: p[i] = s
+ *    - if p[t] is in S: p[s] = p[t], p[t] = s and swap weight[s], weight[t]
+ * 3. Tree edges are (i, p[i]) with weight[i]
+ *
+ * Parallel construction: the flow for s depends only on the pair (s, p[s]), so a batch of
+ * consecutive s values is solved speculatively at the same time, each on its own copy of
+ * the network. The results are then committed in order, and a result is kept only if p[s]
+ * still has the value it was computed with. Otherwise that flow is recomputed.
+ *
+ * Queries use binary lifting over the tree with the minimum edge weight of every jump.
+ *
+ * Time complexity: V - 1 max flows to build (O(V^3 * E) with Dinic), O(log V) per query
+ * Space complexity: O(V * log V + E)
+ */
+public class GomoryHuTree {
+
+    private final int V;
+    private final int[] parent;       // tree parent, -1 for the root 0
+    private final long[] parentCut;   // weight of the edge to the parent
+    private final int[] depth;
+    private final int[][] up;         // up[k][v] = 2^k-th ancestor of v
+    private final long[][] upMin;     // upMin[k][v] = min weight on those 2^k edges
+
+    /**
+     * Builds the tree.
+     *
+     * @param V        number of vertices
+     * @param edgeU    first endpoint of every undirected edge
+     * @param edgeV    second endpoint of every undirected edge
+     * @param capacity capacity of every undirected edge
+     * @param pool     pool running the speculative batches (parallelism = batch size)
+     */
+    public GomoryHuTree(int V, int[] edgeU, int[] edgeV, long[] capacity, ForkJoinPool pool) {
+        this.V = V;
+
+        // An undirected edge is a pair of directed edges of the same capacity
+        Dinic network = new Dinic(V);
+        for (int i = 0; i < edgeU.length; i++) {
+            network.addEdge(edgeU[i], edgeV[i], capacity[i]);
+            network.addEdge(edgeV[i], edgeU[i], capacity[i]);
+        }
+
+        int batch = Math.max(1, Math.min(pool.getParallelism(), V - 1));
+        Dinic[] copies = new Dinic[batch];
+        copies[0] = network;
+        for (int i = 1; i < batch; i++) copies[i] = new Dinic(network);
+
+        int[] p = new int[V];
+        long[] weight = new long[V];
+        int[] sinks = new int[batch];
+        long[] cutValue = new long[batch];
+        boolean[][] sourceSide = new boolean[batch][];
+
+        for (int first = 1; first < V; first += batch) {
+            int size = Math.min(batch, V - first);
+            for (int k = 0; k < size; k++) sinks[k] = p[first + k];
+            pool.invoke(new CutTask(copies, first, sinks, cutValue, sourceSide, 0, size));
+
+            // Commit in order, redoing the flows whose sink changed meanwhile
+            for (int k = 0; k < size; k++) {
+                int s = first + k;
+                int t = p[s];
+                if (t != sinks[k]) {
+                    cutValue[k] = solve(copies[0], s, t);
+                    sourceSide[k] = copies[0].minCutSourceSide();
+                }
+                boolean[] S = sourceSide[k];
+                weight[s] = cutValue[k];
+                for (int i = 0; i < V; i++) {
+                    if (i != s && p[i] == t && S[i]) p[i] = s;
+                }
+                if (S[p[t]]) {
+                    p[s] = p[t];
+                    p[t] = s;
+                    weight[s] = weight[t];
+                    weight[t] = cutValue[k];
+                }
+            }
+        }
+
+        // Vertex 0 stays the root: it is never on the source side
+        parent = new int[V];
+        parentCut = new long[V];
+        for (int v = 0; v < V; v++) {
+            parent[v] = v == 0 ? -1 : p[v];
+            parentCut[v] = weight[v];
+        }
+
+        depth = new int[V];
+        int levels = 1;
+        while ((1 << levels) < V) levels++;
+        up = new int[levels][V];
+        upMin = new long[levels][V];
+        buildLifting();
+    }
+
+    /**
+     * Max flow from s to t on a network, starting from zero flow.
+     */
+    private static long solve(Dinic network, int s, int t) {
+        network.reset();
+        return network.maxFlow(s, t);
+    }
+
+    /**
+     * Solves the cuts of batch entries [start, end) on copies[start .. end - 1].
+     */
+    static class CutTask extends RecursiveAction {
+        final Dinic[] copies;
+        final int first, start, end;
+        final int[] sinks;
+        final long[] cutValue;
+        final boolean[][] sourceSide;
+
+        CutTask(Dinic[] copies, int first, int[] sinks, long[] cutValue, boolean[][] sourceSide,
+                int start, int end) {
+            this.copies = copies;
+            this.first = first;
+            this.sinks = sinks;
+            this.cutValue = cutValue;
+            this.sourceSide = sourceSide;
+            this.start = start;
+            this.end = end;
+        }
+
+        protected void compute() {
+            if (end - start == 1) {
+                Dinic network = copies[start];
+                cutValue[start] = solve(network, first + start, sinks[start]);
+                sourceSide[start] = network.minCutSourceSide();
+            } else {
+                int middle = start + ((end - start) / 2);
+                invokeAll(new CutTask(copies, first, sinks, cutValue, sourceSide, start, middle),
+                        new CutTask(copies, first, sinks, cutValue, sourceSide, middle, end));
+            }
+        }
+    }
+
+    /**
+     * Depths by walking up to already known ancestors, then the jump tables.
+     */
+    private void buildLifting() {
+        Arrays.fill(depth, -1);
+        int[] path = new int[V];
+        for (int v = 0; v < V; v++) {
+            int len = 0;
+            int x = v;
+            while (depth[x] == -1) {
+                path[len++] = x;
+                if (parent[x] == -1) break;
+                x = parent[x];
+            }
+            int d = depth[x] == -1 ? -1 : depth[x];
+            for (int i = len - 1; i >= 0; i--) depth[path[i]] = ++d;
+        }
+
+        for (int v = 0; v < V; v++) {
+            up[0][v] = parent[v] == -1 ? v : parent[v];
+            upMin[0][v] = parent[v] == -1 ? Long.MAX_VALUE : parentCut[v];
+        }
+        for (int k = 1; k < up.length; k++) {
+            for (int v = 0; v < V; v++) {
+                int mid = up[k - 1][v];
+                up[k][v] = up[k - 1][mid];
+                upMin[k][v] = Math.min(upMin[k - 1][v], upMin[k - 1][mid]);
+            }
+        }
+    }
+
+    /**
+     * @return value of a minimum u-v cut (Long.MAX_VALUE if u == v)
+     */
+    public long minCut(int u, int v) {
+        long result = Long.MAX_VALUE;
+        if (depth[u] < depth[v]) {
+            int tmp = u;
+            u = v;
+            v = tmp;
+        }
+        int diff = depth[u] - depth[v];
+        for (int k = 0; diff > 0; k++, diff >>= 1) {
+            if ((diff & 1) != 0) {
+                result = Math.min(result, upMin[k][u]);
+                u = up[k][u];
+            }
+        }
+        if (u == v) return result;
+
+        for (int k = up.length - 1; k >= 0; k--) {
+            if (up[k][u] != up[k][v]) {
+                result = Math.min(result, Math.min(upMin[k][u], upMin[k][v]));
+                u = up[k][u];
+                v = up[k][v];
+            }
+        }
+        return Math.min(result, Math.min(upMin[0][u], upMin[0][v]));
+    }
+
+    /**
+     * @return parent of v in the tree, -1 for the root
+     */
+    public int parent(int v) {
+        return parent[v];
+    }
+
+    /**
+     * @return weight of the tree edge from v to its parent (min cut between them)
+     */
+    public long parentCut(int v) {
+        return parentCut[v];
+    }
+
+    /**
+     * Example usage and tests
+     */
+    public static void main(String[] args) {
+        System.out.println("=== Gomory-Hu Tree (Gusfield) ===\n");
+
+        /*
+            Undirected graph (capacities on the edges):
+
+                0 --10-- 1 --4-- 2
+                |        |       |
+                8        2       5
+                |        |       |
+                3 --3--- 4 --7-- 5
+         */
+        int[] edgeU = {0, 1, 0, 1, 2, 3, 4};
+        int[] edgeV = {1, 2, 3, 4, 5, 4, 5};
+        long[] capacity = {10, 4, 8, 2, 5, 3, 7};
+
+        GomoryHuTree tree = new GomoryHuTree(6, edgeU, edgeV, capacity, ForkJoinPool.commonPool());
+        for (int v = 0; v < 6; v++) {
+            if (tree.parent(v) != -1) {
+                System.out.println("Tree edge " + v + " - " + tree.parent(v) + ": " + tree.parentCut(v));
+            }
+        }
+
+        System.out.println("Min cut 0-5: " + tree.minCut(0, 5)); // 9  ({0, 1, 3} | {2, 4, 5}: 4 + 2 + 3)
+        System.out.println("Min cut 0-1: " + tree.minCut(0, 1)); // 13 ({0, 3} | rest: 10 + 3)
+        System.out.println("Min cut 3-2: " + tree.minCut(3, 2)); // 9
+    }
+}
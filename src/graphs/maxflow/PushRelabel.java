@@ -0,0 +1,263 @@
+package graphs.maxflow;
+
+import java.util.Arrays;
+
+/**
+ * Highest-label push-relabel algorithm (HLPP) for computing maximum flow in a directed graph.
+ * Instead of augmenting along whole paths, vertices hold excess flow and push it one edge at
+ * a time towards the sink, guided by height labels.
+ *
+ * Algorithm:
+ * 1. Saturate every edge out of s; its heads become active (positive excess)
+ * 2. Phase 1, towards t: heights are residual distances to t. Repeatedly discharge the active
+ *    vertex with the highest label:
+ *    - push along admissible edges u -> v (residual capacity > 0, height[u] == height[v] + 1)
+ *    - when none is left, relabel: height[u] = 1 + min height of a residual neighbour
+ *    Heuristics:
+ *    - gap: if no vertex is left at some height h < V, the vertices above h cannot reach t
+ *      any more and are lifted to V at once
+ *    - global relabel: after O(V + E) relabel work, exact heights are recomputed by a BFS
+ *      from t over reverse residual edges
+ *    Once no vertex below height V is active, the excess at t is the max flow value
+ *    (and the vertices below height V form the sink side of a min cut).
+ * 3. Phase 2, towards s: the same procedure with s as the sink returns the excess stranded
+ *    at vertices that cannot reach t, turning the preflow into a flow
+ * 4. Return the flow value (net flow out of s)
+ *
+ * Time complexity: O(V^2 * sqrt(E))
+ * Space complexity: O(V + E)
+ */
+public class PushRelabel extends ResidualGraph {
+
+    // Per-call state
+    private final long[] excess;
+    private final int[] height, arc, queue;
+    private final int[] count;                        // count[h] = vertices at height h < V
+    private final int[] activeHead, activeNext;       // stack of active vertices per height
+    private final int[] allHead, allNext, allPrev;    // all vertices per height (for the gap)
+    private int maxActive, maxAll;
+    private long work;
+
+    /**
+     * Constructor initializes an empty residual graph.
+     *
+     * @param V number of vertices
+     */
+    public PushRelabel(int V) {
+        super(V);
+
+        excess = new long[V];
+        height = new int[V];
+        arc = new int[V];
+        queue = new int[V];
+        count = new int[V];
+        activeHead = new int[V];
+        activeNext = new int[V];
+        allHead = new int[V];
+        allNext = new int[V];
+        allPrev = new int[V];
+    }
+
+    /**
+     * Computes the maximum flow from source s to sink t using highest-label push-relabel,
+     * resuming from the current flow (see ResidualGraph.setCapacity).
+     *
+     * @param s source vertex
+     * @param t sink vertex
+     * @return maximum flow value
+     */
+    @Override
+    public long maxFlow(int s, int t) {
+        if (s == t) return 0;
+        startFlow(s, t);
+        Arrays.fill(excess, 0);
+
+        for (int e = head[s]; e != -1; e = next[e]) {
+            if (capacity[e] > 0 && to[e] != s) {
+                long flow = capacity[e];
+                capacity[e] = 0;
+                capacity[e ^ 1] += flow;
+                excess[to[e]] += flow;
+                excess[s] -= flow;
+            }
+        }
+
+        discharge(t, s); // phase 1: max preflow
+        discharge(s, t); // phase 2: return stranded excess to s
+
+        return flowValue(s);
+    }
+
+    /**
+     * Discharges every active vertex that can reach sink, never entering blocked.
+     */
+    private void discharge(int sink, int blocked) {
+        long globalRelabelWork = 6L * V + edgeCount / 2;
+        globalRelabel(sink, blocked);
+
+        while (maxActive >= 0) {
+            int u = activeHead[maxActive];
+            if (u == -1) {
+                maxActive--;
+                continue;
+            }
+            activeHead[maxActive] = activeNext[u];
+            discharge(u, sink, blocked);
+
+            if (work > globalRelabelWork) {
+                globalRelabel(sink, blocked);
+            }
+        }
+    }
+
+    /**
+     * Pushes the excess of u until it is gone or u is lifted to height V.
+     */
+    private void discharge(int u, int sink, int blocked) {
+        while (excess[u] > 0) {
+            int e = arc[u];
+            for (; e != -1; e = next[e]) {
+                int v = to[e];
+                if (capacity[e] > 0 && height[u] == height[v] + 1) {
+                    long flow = Math.min(excess[u], capacity[e]);
+                    capacity[e] -= flow;
+                    capacity[e ^ 1] += flow;
+                    if (excess[v] == 0 && v != sink) {
+                        activeNext[v] = activeHead[height[v]];
+                        activeHead[height[v]] = v;
+                        maxActive = Math.max(maxActive, height[v]); // u may have been relabeled above it
+                    }
+                    excess[v] += flow;
+                    excess[u] -= flow;
+                    if (excess[u] == 0) break;
+                }
+            }
+            arc[u] = e;
+            if (excess[u] == 0) return;
+
+            // Relabel
+            int oldHeight = height[u];
+            if (count[oldHeight] == 1) {
+                gap(oldHeight);
+                return;
+            }
+            int newHeight = V;
+            for (e = head[u]; e != -1; e = next[e]) {
+                if (capacity[e] > 0) newHeight = Math.min(newHeight, height[to[e]] + 1);
+                work++;
+            }
+            work += 12;
+
+            removeFromAll(u);
+            if (newHeight >= V) {
+                height[u] = V;
+                return;
+            }
+            height[u] = newHeight;
+            addToAll(u);
+            arc[u] = head[u];
+        }
+    }
+
+    /**
+     * No vertex is left at height h: everything above it is cut off from the sink.
+     */
+    private void gap(int h) {
+        for (int g = h; g <= maxAll; g++) {
+            for (int v = allHead[g]; v != -1; v = allNext[v]) height[v] = V;
+            allHead[g] = -1;
+            activeHead[g] = -1;
+            count[g] = 0;
+        }
+        maxAll = h - 1;
+        maxActive = Math.min(maxActive, h - 1);
+    }
+
+    /**
+     * Sets exact heights by BFS from sink over reverse residual edges and rebuilds the buckets.
+     * Vertices that cannot reach sink, and blocked, get height V.
+     */
+    private void globalRelabel(int sink, int blocked) {
+        work = 0;
+        Arrays.fill(height, V);
+        Arrays.fill(count, 0);
+        Arrays.fill(activeHead, -1);
+        Arrays.fill(allHead, -1);
+        maxActive = -1;
+        maxAll = -1;
+
+        int qHead = 0, qTail = 0;
+        height[sink] = 0;
+        queue[qTail++] = sink;
+        while (qHead < qTail) {
+            int v = queue[qHead++];
+            arc[v] = head[v];
+            addToAll(v);
+            if (excess[v] > 0 && v != sink) {
+                activeNext[v] = activeHead[height[v]];
+                activeHead[height[v]] = v;
+                maxActive = Math.max(maxActive, height[v]);
+            }
+            for (int e = head[v]; e != -1; e = next[e]) {
+                int w = to[e];
+                if (height[w] == V && w != blocked && capacity[e ^ 1] > 0) {
+                    height[w] = height[v] + 1;
+                    queue[qTail++] = w;
+                }
+            }
+        }
+    }
+
+    private void addToAll(int v) {
+        int h = height[v];
+        allPrev[v] = -1;
+        allNext[v] = allHead[h];
+        if (allHead[h] != -1) allPrev[allHead[h]] = v;
+        allHead[h] = v;
+        count[h]++;
+        maxAll = Math.max(maxAll, h);
+    }
+
+    private void removeFromAll(int v) {
+        int h = height[v];
+        if (allPrev[v] != -1) allNext[allPrev[v]] = allNext[v];
+        else allHead[h] = allNext[v];
+        if (allNext[v] != -1) allPrev[allNext[v]] = allPrev[v];
+        count[h]--;
+    }
+
+    /**
+     * Example usage and tests
+     */
+    public static void main(String[] args) {
+        System.out.println("=== Highest-Label Push-Relabel Max Flow Algorithm ===\n");
+
+        // Example 1: Classic flow network (same as EdmondsKarp)
+        System.out.println("Example 1: Classic flow network");
+        PushRelabel pr1 = new PushRelabel(6);
+        pr1.addEdge(0, 1, 16);
+        pr1.addEdge(0, 2, 13);
+        pr1.addEdge(1, 2, 10);
+        pr1.addEdge(1, 3, 12);
+        pr1.addEdge(2, 1, 4);
+        pr1.addEdge(2, 4, 14);
+        pr1.addEdge(3, 2, 9);
+        pr1.addEdge(3, 5, 20);
+        pr1.addEdge(4, 3, 7);
+        pr1.addEdge(4, 5, 4);
+
+        long maxFlow1 = pr1.maxFlow(0, 5);
+        System.out.println("Max flow from 0 to 5: " + maxFlow1);
+        System.out.println("Expected: 23\n");
+
+        // Example 2: Source pushes more than the bottleneck, the rest flows back in phase 2
+        System.out.println("Example 2: Excess returned to the source");
+        PushRelabel pr2 = new PushRelabel(3);
+        pr2.addEdge(0, 1, 5);  // s -> 1: capacity 5
+        pr2.addEdge(1, 2, 3);  // 1 -> t: capacity 3
+
+        long maxFlow2 = pr2.maxFlow(0, 2);
+        System.out.println("Max flow from 0 to 2: " + maxFlow2);
+        System.out.println("Expected: 3\n");
+    }
+}
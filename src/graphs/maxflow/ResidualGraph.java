@@ -0,0 +1,220 @@
+package graphs.maxflow;
+
+import java.util.Arrays;
+
+/**
+ * Residual graph shared by the max-flow engines (EdmondsKarp, FordFulkerson, Dinic, PushRelabel).
+ * <p>
+ * Edges are stored in the flat arrays of EdgeStore: edge e and its reverse edge e ^ 1 sit side
+ * by side, so the flow on e is always capacity[e ^ 1]. On top of the storage this class
+ * provides what is independent of how the flow was found:
+ * - min cut: vertices reachable from s in the residual graph and the edges leaving them
+ * - setCapacity: changes one edge in place and repairs the flow, so the next maxFlow call
+ *   resumes from it instead of starting from zero
+ * <p>
+ * Node IDs are assumed to be in the range 0..V-1.
+ */
+public abstract class ResidualGraph extends EdgeStore {
+
+    // Terminals of the current flow, -1 before the first maxFlow call
+    int source = -1, sink = -1;
+
+    // Work arrays of the repair search
+    private final int[] searchQueue, searchEdge, searchMark;
+    private int searchStamp;
+
+    ResidualGraph(int V) {
+        super(V);
+        searchQueue = new int[V];
+        searchEdge = new int[V];
+        searchMark = new int[V];
+    }
+
+    /**
+     * Copies the edges of other and their current flow; the copy is independent of other.
+     */
+    ResidualGraph(ResidualGraph other) {
+        super(other);
+        searchQueue = new int[V];
+        searchEdge = new int[V];
+        searchMark = new int[V];
+        source = other.source;
+        sink = other.sink;
+    }
+
+    /**
+     * Computes the maximum flow from source s to sink t, starting from the current flow.
+     * The current flow is discarded first if it was computed for other terminals.
+     *
+     * @param s source vertex
+     * @param t sink vertex
+     * @return maximum flow value (the whole flow, not only what this call added)
+     */
+    public abstract long maxFlow(int s, int t);
+
+    /**
+     * Called at the start of maxFlow.
+     */
+    void startFlow(int s, int t) {
+        if (source != -1 && (source != s || sink != t)) {
+            reset();
+        }
+        source = s;
+        sink = t;
+    }
+
+    /**
+     * @return net flow out of s
+     */
+    long flowValue(int s) {
+        long value = 0;
+        for (int e = head[s]; e != -1; e = next[e]) {
+            // Even ids are edges out of s, odd ids are reverses of edges into s
+            value += (e & 1) == 0 ? capacity[e ^ 1] : -capacity[e];
+        }
+        return value;
+    }
+
+    /**
+     * Removes all flow.
+     */
+    public void reset() {
+        for (int e = 0; e < edgeCount; e += 2) {
+            capacity[e] += capacity[e + 1];
+            capacity[e + 1] = 0;
+        }
+        source = -1;
+        sink = -1;
+    }
+
+    /**
+     * Changes the capacity of an edge, keeping the current flow valid.
+     * <p>
+     * If the new capacity is at least the flow on the edge, only the residual capacity changes.
+     * Otherwise the flow on the edge drops by d, leaving d units of extra inflow at its tail u
+     * and missing inflow at its head v. These are repaired in the residual graph by routing
+     * them from u to v around the edge where possible, and otherwise from u back to a terminal
+     * and from a terminal to v.
+     * The next maxFlow call on the same terminals then starts from this flow.
+     *
+     * @param edgeId      id returned by addEdge
+     * @param newCapacity new capacity, at least 0
+     */
+    public void setCapacity(int edgeId, long newCapacity) {
+        if (newCapacity < 0) {
+            throw new IllegalArgumentException("Capacity must be non-negative");
+        }
+        long flow = flow(edgeId);
+        if (newCapacity >= flow) {
+            capacity[edgeId] = newCapacity - flow;
+            return;
+        }
+
+        long d = flow - newCapacity;
+        capacity[edgeId] = 0;
+        capacity[edgeId ^ 1] = newCapacity;
+
+        int u = to[edgeId ^ 1];
+        int v = to[edgeId];
+        if (u == v) return; // self-loop, balance unchanged
+        boolean uTerminal = u == source || u == sink;
+        boolean vTerminal = v == source || v == sink;
+
+        if (!uTerminal && !vTerminal) {
+            d -= route(u, v, v, d, false);
+        }
+        if (!uTerminal) route(u, source, sink, d, false);
+        if (!vTerminal) route(v, source, sink, d, true);
+    }
+
+    /**
+     * Moves up to amount units along residual paths, by repeated BFS.
+     * Forward: from vertex from to target1 or target2. Backward: from target1 or target2 to from.
+     *
+     * @return amount moved
+     */
+    private long route(int from, int target1, int target2, long amount, boolean backward) {
+        long moved = 0;
+        while (moved < amount) {
+            if (++searchStamp == Integer.MAX_VALUE) {
+                Arrays.fill(searchMark, 0);
+                searchStamp = 1;
+            }
+            int qHead = 0, qTail = 0;
+            searchQueue[qTail++] = from;
+            searchMark[from] = searchStamp;
+            int reached = -1;
+
+            // searchEdge[w] = residual edge between w and the vertex it was reached from
+            while (qHead < qTail && reached == -1) {
+                int x = searchQueue[qHead++];
+                for (int e = head[x]; e != -1; e = next[e]) {
+                    int w = to[e];
+                    int residual = backward ? e ^ 1 : e;
+                    if (searchMark[w] == searchStamp || capacity[residual] == 0) continue;
+                    searchMark[w] = searchStamp;
+                    searchEdge[w] = residual;
+                    if (w == target1 || w == target2) {
+                        reached = w;
+                        break;
+                    }
+                    searchQueue[qTail++] = w;
+                }
+            }
+            if (reached == -1) break;
+
+            long delta = amount - moved;
+            for (int w = reached; w != from; w = backward ? to[searchEdge[w]] : to[searchEdge[w] ^ 1]) {
+                delta = Math.min(delta, capacity[searchEdge[w]]);
+            }
+            for (int w = reached; w != from; w = backward ? to[searchEdge[w]] : to[searchEdge[w] ^ 1]) {
+                capacity[searchEdge[w]] -= delta;
+                capacity[searchEdge[w] ^ 1] += delta;
+            }
+            moved += delta;
+        }
+        return moved;
+    }
+
+    /**
+     * Source side of a minimum cut: the vertices reachable from s in the residual graph of the
+     * last maxFlow call.
+     */
+    public boolean[] minCutSourceSide() {
+        if (source == -1) {
+            throw new IllegalStateException("maxFlow has not been run");
+        }
+        boolean[] sourceSide = new boolean[V];
+        int[] queue = new int[V];
+        int qHead = 0, qTail = 0;
+        sourceSide[source] = true;
+        queue[qTail++] = source;
+        while (qHead < qTail) {
+            int u = queue[qHead++];
+            for (int e = head[u]; e != -1; e = next[e]) {
+                if (capacity[e] > 0 && !sourceSide[to[e]]) {
+                    sourceSide[to[e]] = true;
+                    queue[qTail++] = to[e];
+                }
+            }
+        }
+        return sourceSide;
+    }
+
+    /**
+     * Edges of a minimum cut: the ids of the edges (with positive capacity) going from the
+     * source side to the sink side. Their capacities add up to the max flow.
+     */
+    public int[] minCutEdges() {
+        boolean[] sourceSide = minCutSourceSide();
+        int[] cut = new int[16];
+        int size = 0;
+        for (int e = 0; e < edgeCount; e += 2) {
+            if (sourceSide[to[e + 1]] && !sourceSide[to[e]] && capacity[e + 1] > 0) {
+                if (size == cut.length) cut = Arrays.copyOf(cut, size * 2);
+                cut[size++] = e;
+            }
+        }
+        return Arrays.copyOf(cut, size);
+    }
+}
@@ -0,0 +1,175 @@
+package indexedheap;
+
+import java.util.Arrays;
+
+/**
+ * Binary min-heap over the items 0..n-1 with long keys and decrease-key.
+ * <p>
+ * pos[item] is the index of the item in heap[] (-1 if absent), so an item can be found and
+ * moved up in O(log n) when its key drops. This is what Dijkstra / Prim need: at most one
+ * entry per vertex, instead of the stale duplicates a java.util.PriorityQueue accumulates.
+ * Everything lives in three primitive arrays allocated once.
+ * <p>
+ * Time complexity: insert / decreaseKey / pollMin O(log n), contains / minKey O(1)
+ * Space complexity: O(n)
+ */
+public class IndexedMinHeap {
+
+    private final int[] heap;   // heap[i] = item at heap position i
+    private final int[] pos;    // pos[item] = heap position, -1 if not in the heap
+    private final long[] keys;  // keys[item]
+    private int size;
+
+    /**
+     * Creates an empty heap for the items 0..n-1.
+     */
+    public IndexedMinHeap(int n) {
+        heap = new int[n];
+        pos = new int[n];
+        keys = new long[n];
+        Arrays.fill(pos, -1);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(int item) {
+        return pos[item] != -1;
+    }
+
+    /**
+     * @return key of item (the last one it had if it was removed)
+     */
+    public long key(int item) {
+        return keys[item];
+    }
+
+    /**
+     * Adds an item that is not in the heap.
+     */
+    public void insert(int item, long key) {
+        if (pos[item] != -1) {
+            throw new IllegalArgumentException("Item " + item + " is already in the heap");
+        }
+        keys[item] = key;
+        heap[size] = item;
+        pos[item] = size;
+        siftUp(size++);
+    }
+
+    /**
+     * Lowers the key of an item in the heap.
+     */
+    public void decreaseKey(int item, long key) {
+        if (key > keys[item]) {
+            throw new IllegalArgumentException("New key is larger than the current key");
+        }
+        keys[item] = key;
+        siftUp(pos[item]);
+    }
+
+    /**
+     * Inserts item, or lowers its key if it is already in the heap with a larger key.
+     *
+     * @return true if the heap changed
+     */
+    public boolean push(int item, long key) {
+        if (pos[item] == -1) {
+            insert(item, key);
+            return true;
+        }
+        if (key < keys[item]) {
+            decreaseKey(item, key);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return the item with the smallest key (the heap must not be empty)
+     */
+    public int peekMin() {
+        return heap[0];
+    }
+
+    public long minKey() {
+        return keys[heap[0]];
+    }
+
+    /**
+     * Removes and returns the item with the smallest key (the heap must not be empty).
+     */
+    public int pollMin() {
+        int min = heap[0];
+        pos[min] = -1;
+        size--;
+        if (size > 0) {
+            heap[0] = heap[size];
+            pos[heap[0]] = 0;
+            siftDown(0);
+        }
+        return min;
+    }
+
+    /**
+     * Removes all items in O(size).
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) pos[heap[i]] = -1;
+        size = 0;
+    }
+
+    private void siftUp(int i) {
+        int item = heap[i];
+        long key = keys[item];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (keys[heap[parent]] <= key) break;
+            heap[i] = heap[parent];
+            pos[heap[i]] = i;
+            i = parent;
+        }
+        heap[i] = item;
+        pos[item] = i;
+    }
+
+    private void siftDown(int i) {
+        int item = heap[i];
+        long key = keys[item];
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && keys[heap[child + 1]] < keys[heap[child]]) child++;
+            if (key <= keys[heap[child]]) break;
+            heap[i] = heap[child];
+            pos[heap[i]] = i;
+            i = child;
+        }
+        heap[i] = item;
+        pos[item] = i;
+    }
+
+    public static void main(String[] args) {
+        IndexedMinHeap pq = new IndexedMinHeap(5);
+        pq.insert(0, 50);
+        pq.insert(1, 20);
+        pq.insert(2, 40);
+        pq.insert(3, 10);
+
+        pq.decreaseKey(2, 5);   // item 2 moves to the top
+        pq.push(4, 30);         // inserts
+        pq.push(1, 25);         // ignored, 20 is smaller
+
+        StringBuilder order = new StringBuilder();
+        while (!pq.isEmpty()) {
+            long key = pq.minKey();
+            order.append(pq.pollMin()).append('(').append(key).append(") ");
+        }
+        System.out.println("Poll order: " + order); // 2(5) 3(10) 1(20) 4(30) 0(50)
+    }
+}
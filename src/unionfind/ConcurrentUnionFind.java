@@ -0,0 +1,114 @@
+package unionfind;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+/**
+ * Lock-free Union-Find that many threads can use at the same time.
+ * <p>
+ * The parent pointers live in an AtomicIntegerArray:
+ * - findSet uses path halving: every visited node is pointed to its grandparent with a CAS.
+ *   A failed CAS only means another thread already shortened the path, so it is ignored.
+ * - union links one root under the other with a CAS that succeeds only if the node is still
+ *   a root; if another thread got there first, the roots are looked up again and it retries.
+ * - Roots are linked by index (the smaller index goes under the larger one) instead of by
+ *   rank, so no second array has to be kept consistent with the parents. Parents only ever
+ *   increase, which rules out cycles however the threads interleave.
+ * <p>
+ * Time complexity: O(log n) amortized per operation in practice (no rank bound)
+ * Space complexity: O(n)
+ */
+public class ConcurrentUnionFind {
+
+    // p[i] stores the parent of i; p[i] == i for a root
+    private final AtomicIntegerArray p;
+
+    /**
+     * Initializes n elements 0, 1, ..., n-1, each in its own set.
+     */
+    public ConcurrentUnionFind(int n) {
+        p = new AtomicIntegerArray(n);
+        for (int i = 0; i < n; i++) p.set(i, i);
+    }
+
+    /**
+     * Finds the representative (root) of the set containing i, halving the path on the way.
+     */
+    public int findSet(int i) {
+        while (true) {
+            int parent = p.get(i);
+            if (parent == i) return i;
+            int grandparent = p.get(parent);
+            if (parent != grandparent) p.compareAndSet(i, parent, grandparent);
+            i = grandparent;
+        }
+    }
+
+    /**
+     * Checks whether elements i and j belong to the same set.
+     * While other threads are uniting, a false result may already be outdated.
+     */
+    public boolean isSameSet(int i, int j) {
+        while (true) {
+            int x = findSet(i);
+            int y = findSet(j);
+            if (x == y) return true;
+            // x stopped being a root meanwhile: the answer is not settled yet
+            if (p.get(x) == x) return false;
+        }
+    }
+
+    /**
+     * Unites the sets containing elements i and j.
+     *
+     * @return true if they were in different sets, i.e. exactly one thread gets true for
+     *         every pair of sets merged
+     */
+    public boolean union(int i, int j) {
+        while (true) {
+            int x = findSet(i);
+            int y = findSet(j);
+            if (x == y) return false;
+            if (x > y) {
+                int tmp = x;
+                x = y;
+                y = tmp;
+            }
+            if (p.compareAndSet(x, x, y)) return true;
+        }
+    }
+
+    /**
+     * Counts how many disjoint sets currently exist (call it when no unions are running).
+     */
+    public int numDisjointSets() {
+        int count = 0;
+        for (int i = 0; i < p.length(); i++) {
+            if (p.get(i) == i) count++;
+        }
+        return count;
+    }
+
+    /**
+     * Example usage: the same unions as UnionFind, then many threads uniting at once.
+     */
+    public static void main(String[] args) {
+        ConcurrentUnionFind uf = new ConcurrentUnionFind(7);
+        uf.union(0, 1);
+        uf.union(1, 2);
+        uf.union(3, 4);
+        System.out.println("Set count = " + uf.numDisjointSets()); // expect 4
+        System.out.println("0 and 2 same set?  " + uf.isSameSet(0, 2)); // true
+        System.out.println("0 and 3 same set?  " + uf.isSameSet(0, 3)); // false
+
+        // Chain i -- i + 1 united from all threads in parallel: one set, n - 1 successful unions
+        int n = 1_000_000;
+        ConcurrentUnionFind chain = new ConcurrentUnionFind(n);
+        long merged = ForkJoinPool.commonPool().submit(() ->
+                IntStream.range(0, n - 1).parallel().filter(i -> chain.union(i, i + 1)).count()
+        ).join();
+        System.out.println("Successful unions = " + merged); // expect 999999
+        System.out.println("Set count = " + chain.numDisjointSets()); // expect 1
+    }
+}